@@ -0,0 +1,64 @@
+package ru.clevertec.news.cache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import ru.clevertec.news.entity.User;
+import ru.clevertec.news.entity.dto.NewsResponse;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialize and deserialize cost of a cached {@link NewsResponse} for every cache value serializer,
+ * with the JDK serializer being the former default of RedisCacheConfiguration.
+ * The size of one serialized entry is printed at the start of each trial.
+ *
+ * <p>Run with {@code ./gradlew jmh -Pjmh.includes=CacheValueSerializerBenchmark}.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CacheValueSerializerBenchmark {
+
+    @Param({CacheValueSerializers.JDK, CacheValueSerializers.JSON, CacheValueSerializers.COMPACT})
+    private String serializer;
+
+    @Param({"200", "2000"})
+    private int textLength;
+
+    private RedisSerializer<Object> redisSerializer;
+    private NewsResponse news;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        redisSerializer = CacheValueSerializers.forName(serializer);
+        User user = new User(42L, UUID.fromString("0bdc4d34-af90-4b42-bba6-f588323c87d7"), "Test userName comment");
+        news = new NewsResponse(123_456L, LocalDateTime.parse("2024-01-01T14:18:08.537"),
+                "Breaking news title", "x".repeat(textLength), user);
+        serialized = redisSerializer.serialize(news);
+        System.out.printf("%n%s, text %d chars: %d bytes per entry%n", serializer, textLength, serialized.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return redisSerializer.serialize(news);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return redisSerializer.deserialize(serialized);
+    }
+}
@@ -0,0 +1,121 @@
+package ru.clevertec.news.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import ru.clevertec.cache.Cache;
+import ru.clevertec.news.config.NewsCacheProperties;
+import ru.clevertec.news.entity.dto.NewsResponse;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Multi-threaded throughput of the dev cache read path: {@link StarterNewsCache#get}, which NewsAspect calls
+ * for every {@code get}, against the baseline of the former NewsAspect, which held one global ReentrantLock
+ * around the whole lookup and database load. The database is simulated by a loader parking the calling thread,
+ * and both paths use a starter cache backed by an LRU map with the capacity used in application-dev.yaml.
+ *
+ * <p>Run with {@code ./gradlew jmh -Pjmh.includes=NewsAspectThroughputBenchmark}.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class NewsAspectThroughputBenchmark {
+
+    private static final int CACHE_CAPACITY = 6;
+
+    @Param({"8", "1000"})
+    private int distinctIds;
+
+    @Param({"200"})
+    private long dbLatencyMicros;
+
+    private Cache<Long, NewsResponse> globalLockCache;
+    private Lock globalLock;
+
+    private StarterNewsCache newsCache;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        globalLockCache = lruCache();
+        globalLock = new ReentrantLock();
+        newsCache = new StarterNewsCache(lruCache(), new NewsCacheProperties(), Runnable::run,
+                new SimpleMeterRegistry(), CACHE_CAPACITY);
+    }
+
+    /**
+     * Baseline: the read path of the former NewsAspect.
+     */
+    @Benchmark
+    public NewsResponse globalLock() {
+        Long id = nextId();
+        globalLock.lock();
+        try {
+            NewsResponse value = globalLockCache.get(id);
+            if (value == null) {
+                value = loadFromDatabase(id);
+            }
+            globalLockCache.put(id, value);
+            return value;
+        } finally {
+            globalLock.unlock();
+        }
+    }
+
+    @Benchmark
+    public NewsResponse starterNewsCache() throws Throwable {
+        Long id = nextId();
+        return newsCache.get(id, () -> loadFromDatabase(id));
+    }
+
+    private Long nextId() {
+        return (long) ThreadLocalRandom.current().nextInt(distinctIds);
+    }
+
+    private NewsResponse loadFromDatabase(Long id) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(dbLatencyMicros));
+        return new NewsResponse(id, LocalDateTime.of(2024, 1, 1, 12, 0), "Title " + id, "Text " + id,
+                1L, new UUID(0, 1), "Author");
+    }
+
+    /**
+     * Creates a starter cache over an LRU map, which, like the starter caches, is left to its caller to synchronize.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> Cache<K, V> lruCache() {
+        Map<Object, Object> entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+                return size() > CACHE_CAPACITY;
+            }
+        };
+        return (Cache<K, V>) Proxy.newProxyInstance(Cache.class.getClassLoader(), new Class<?>[]{Cache.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "get" -> entries.get(args[0]);
+                    case "put" -> entries.put(args[0], args[1]);
+                    case "removeByKey" -> entries.remove(args[0]);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
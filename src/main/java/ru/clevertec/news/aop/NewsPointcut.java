@@ -18,25 +18,4 @@ public class NewsPointcut {
     @Pointcut("execution(* ru.clevertec.news.service.NewsServiceImpl.get(..))")
     public void pointcutGetMethod(){
     }
-
-    /**
-     * Pointcut for the 'create' method in NewsServiceImpl.
-     */
-    @Pointcut("execution(* ru.clevertec.news.service.NewsServiceImpl.create(..))")
-    public void pointcutCreateMethod() {
-    }
-
-    /**
-     * Pointcut for the 'update' method in NewsServiceImpl.
-     */
-    @Pointcut("execution(* ru.clevertec.news.service.NewsServiceImpl.update(..))")
-    public void pointcutUpdateMethod(){
-    }
-
-    /**
-     * Pointcut for the 'archive' method in NewsServiceImpl.
-     */
-    @Pointcut("execution(* ru.clevertec.news.service.NewsServiceImpl.archive(..))")
-    public void pointcutArchiveMethod() {
-    }
 }
@@ -0,0 +1,39 @@
+package ru.clevertec.news.cache;
+
+/**
+ * Message telling every node to drop its local copy of a cache entry.
+ *
+ * @param origin    the id of the node that changed the entry; that node ignores its own message.
+ * @param cacheName the name of the cache.
+ * @param key       the string form of the key, or {@code null} when the whole cache is cleared.
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public record CacheInvalidation(String origin, String cacheName, String key) {
+
+    private static final String SEPARATOR = "\n";
+
+    /**
+     * Encodes the message for transports carrying plain text, e.g. Redis pub/sub.
+     *
+     * @return the encoded message.
+     */
+    public String encode() {
+        String header = origin + SEPARATOR + cacheName;
+        return key == null ? header : header + SEPARATOR + key;
+    }
+
+    /**
+     * Decodes a message produced by {@link #encode()}.
+     *
+     * @param message the encoded message.
+     * @return the decoded invalidation.
+     */
+    public static CacheInvalidation decode(String message) {
+        String[] parts = message.split(SEPARATOR, 3);
+        if (parts.length < 2) {
+            throw new IllegalArgumentException("Malformed cache invalidation: " + message);
+        }
+        return new CacheInvalidation(parts[0], parts[1], parts.length == 3 ? parts[2] : null);
+    }
+}
@@ -0,0 +1,26 @@
+package ru.clevertec.news.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Channel distributing cache invalidations between service instances.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Sends the invalidation to every subscribed node, including the sender.
+     *
+     * @param invalidation the invalidation to send.
+     */
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * Registers a listener receiving every published invalidation.
+     *
+     * @param listener the listener to register.
+     */
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,135 @@
+package ru.clevertec.news.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Micrometer meters of one cache, shared by the cachestarter cache of the dev profile and the Redis caches of prod.
+ *
+ * <ul>
+ *     <li>{@value #REQUESTS}: lookups by {@code result} (hit, miss);</li>
+ *     <li>{@value #OPERATIONS}: latency of {@code operation} get, load, put and evict, where load is the
+ *     computation of a missing value;</li>
+ *     <li>{@value #EVICTIONS}: removed entries by {@code cause}, explicit for evict calls and size
+ *     for entries the cache dropped to stay within its capacity;</li>
+ *     <li>{@value #SIZE}: the number of entries held in memory.</li>
+ * </ul>
+ * Every meter carries the {@code cache} tag.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public class CacheMeters {
+
+    public static final String REQUESTS = "news.cache.requests";
+    public static final String OPERATIONS = "news.cache.operations";
+    public static final String EVICTIONS = "news.cache.evictions";
+    public static final String SIZE = "news.cache.size";
+    public static final String TAG_CACHE = "cache";
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter explicitEvictions;
+    private final Timer getTimer;
+    private final Timer loadTimer;
+    private final Timer putTimer;
+    private final Timer evictTimer;
+
+    /**
+     * Constructor for CacheMeters.
+     *
+     * @param cacheName      the name of the cache.
+     * @param registry       the registry of the meters.
+     * @param size           the number of entries held in memory.
+     * @param sizeEvictions  the number of entries dropped so far to stay within the capacity.
+     */
+    public CacheMeters(String cacheName, MeterRegistry registry, LongSupplier size, LongSupplier sizeEvictions) {
+        hits = requests(cacheName, "hit", registry);
+        misses = requests(cacheName, "miss", registry);
+        getTimer = operation(cacheName, "get", registry);
+        loadTimer = operation(cacheName, "load", registry);
+        putTimer = operation(cacheName, "put", registry);
+        evictTimer = operation(cacheName, "evict", registry);
+        explicitEvictions = Counter.builder(EVICTIONS)
+                .description("Entries removed from the cache")
+                .tag(TAG_CACHE, cacheName)
+                .tag("cause", "explicit")
+                .register(registry);
+        FunctionCounter.builder(EVICTIONS, sizeEvictions, LongSupplier::getAsLong)
+                .description("Entries removed from the cache")
+                .tag(TAG_CACHE, cacheName)
+                .tag("cause", "size")
+                .register(registry);
+        Gauge.builder(SIZE, size, LongSupplier::getAsLong)
+                .description("Entries held in memory")
+                .tag(TAG_CACHE, cacheName)
+                .register(registry);
+    }
+
+    public void hit() {
+        hits.increment();
+    }
+
+    public void miss() {
+        misses.increment();
+    }
+
+    public void explicitEviction() {
+        explicitEvictions.increment();
+    }
+
+    public Timer getTimer() {
+        return getTimer;
+    }
+
+    public Timer loadTimer() {
+        return loadTimer;
+    }
+
+    public Timer putTimer() {
+        return putTimer;
+    }
+
+    public Timer evictTimer() {
+        return evictTimer;
+    }
+
+    /**
+     * Runs and times the computation of a value, whether for a miss or a background refresh.
+     *
+     * @param loader the load.
+     * @param <T>    the type of the loaded value.
+     * @return the loaded value.
+     * @throws Throwable the failure of the load.
+     */
+    public <T> T load(SingleFlight.Loader<T> loader) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return loader.load();
+        } finally {
+            loadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Counter requests(String cacheName, String result, MeterRegistry registry) {
+        return Counter.builder(REQUESTS)
+                .description("Cache lookups")
+                .tag(TAG_CACHE, cacheName)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Timer operation(String cacheName, String operation, MeterRegistry registry) {
+        return Timer.builder(OPERATIONS)
+                .description("Latency of cache operations")
+                .tag(TAG_CACHE, cacheName)
+                .tag("operation", operation)
+                .register(registry);
+    }
+}
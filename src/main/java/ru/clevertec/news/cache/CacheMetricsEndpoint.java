@@ -0,0 +1,94 @@
+package ru.clevertec.news.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Actuator endpoint {@code /actuator/newscaches} summarizing the {@link CacheMeters} of every cache:
+ * hits, misses, hit ratio, mean load and get latency, evictions and size.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Component
+@Endpoint(id = "newscaches")
+@RequiredArgsConstructor
+public class CacheMetricsEndpoint {
+
+    private final MeterRegistry meterRegistry;
+
+    @ReadOperation
+    public Map<String, CacheStatistics> caches() {
+        Set<String> names = new TreeSet<>();
+        meterRegistry.find(CacheMeters.REQUESTS).counters()
+                .forEach(counter -> names.add(counter.getId().getTag(CacheMeters.TAG_CACHE)));
+        Map<String, CacheStatistics> statistics = new TreeMap<>();
+        names.forEach(name -> statistics.put(name, cache(name)));
+        return statistics;
+    }
+
+    @ReadOperation
+    public CacheStatistics cache(@Selector String name) {
+        long hits = count(CacheMeters.REQUESTS, name, "result", "hit");
+        long misses = count(CacheMeters.REQUESTS, name, "result", "miss");
+        Timer load = timer(name, "load");
+        Timer get = timer(name, "get");
+        Gauge size = meterRegistry.find(CacheMeters.SIZE).tag(CacheMeters.TAG_CACHE, name).gauge();
+        return new CacheStatistics(
+                hits,
+                misses,
+                hits + misses == 0 ? 0 : (double) hits / (hits + misses),
+                load == null ? 0 : load.count(),
+                load == null ? 0 : load.mean(TimeUnit.MILLISECONDS),
+                get == null ? 0 : get.mean(TimeUnit.MILLISECONDS),
+                count(CacheMeters.EVICTIONS, name, "cause", "explicit"),
+                count(CacheMeters.EVICTIONS, name, "cause", "size"),
+                size == null ? 0 : (long) size.value());
+    }
+
+    private long count(String meterName, String cacheName, String tag, String value) {
+        double total = meterRegistry.find(meterName).tag(CacheMeters.TAG_CACHE, cacheName).tag(tag, value)
+                .counters().stream().mapToDouble(Counter::count).sum();
+        total += meterRegistry.find(meterName).tag(CacheMeters.TAG_CACHE, cacheName).tag(tag, value)
+                .functionCounters().stream().mapToDouble(FunctionCounter::count).sum();
+        return (long) total;
+    }
+
+    private Timer timer(String cacheName, String operation) {
+        return meterRegistry.find(CacheMeters.OPERATIONS)
+                .tag(CacheMeters.TAG_CACHE, cacheName)
+                .tag("operation", operation)
+                .timer();
+    }
+
+    /**
+     * Summary of one cache.
+     *
+     * @param hits              lookups served from the cache.
+     * @param misses            lookups that had to compute the value.
+     * @param hitRatio          hits divided by all lookups.
+     * @param loads             computations of values, including background refreshes.
+     * @param meanLoadMillis    mean duration of a computation.
+     * @param meanGetMillis     mean duration of a lookup, computations included.
+     * @param explicitEvictions entries removed by evict calls.
+     * @param sizeEvictions     entries dropped to stay within the capacity.
+     * @param size              entries held in memory.
+     */
+    public record CacheStatistics(long hits, long misses, double hitRatio, long loads, double meanLoadMillis,
+                                  double meanGetMillis, long explicitEvictions, long sizeEvictions, long size) {
+    }
+}
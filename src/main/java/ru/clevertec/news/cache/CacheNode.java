@@ -0,0 +1,37 @@
+package ru.clevertec.news.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Identity of this service instance on the {@link CacheInvalidationBus}, shared by the caches of the instance
+ * so that each of them can tell the invalidations of its own node from those of the others.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Component
+public class CacheNode {
+
+    private final String id = UUID.randomUUID().toString();
+
+    /**
+     * Returns the id this node puts in the origin of its invalidations.
+     *
+     * @return the node id.
+     */
+    public String id() {
+        return id;
+    }
+
+    /**
+     * Tells whether an invalidation was sent by this node.
+     *
+     * @param invalidation the received invalidation.
+     * @return {@code true} if this node is its origin.
+     */
+    public boolean isOrigin(CacheInvalidation invalidation) {
+        return id.equals(invalidation.origin());
+    }
+}
@@ -0,0 +1,89 @@
+package ru.clevertec.news.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+
+/**
+ * Factory of the serializers available for Redis cache values, selected by the
+ * {@code news.cache.serializer} property.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public final class CacheValueSerializers {
+
+    /**
+     * Compact binary format for news items with JSON for other values.
+     */
+    public static final String COMPACT = "compact";
+
+    /**
+     * JSON with type information for every value.
+     */
+    public static final String JSON = "json";
+
+    /**
+     * JDK serialization, the default of RedisCacheConfiguration.
+     */
+    public static final String JDK = "jdk";
+
+    private static final String CACHED_PACKAGE = "ru.clevertec.news.";
+
+    private CacheValueSerializers() {
+    }
+
+    /**
+     * Creates the serializer registered under the given name.
+     *
+     * @param name one of {@link #COMPACT}, {@link #JSON} or {@link #JDK}.
+     * @return the serializer.
+     */
+    public static RedisSerializer<Object> forName(String name) {
+        return switch (name) {
+            case COMPACT -> new CompactCacheValueSerializer(json());
+            case JSON -> json();
+            case JDK -> new JdkSerializationRedisSerializer();
+            default -> throw new IllegalArgumentException("Unknown cache value serializer: " + name);
+        };
+    }
+
+    /**
+     * Creates a JSON serializer that records the value type and understands java.time values.
+     * Only the types of the cached values may be named in the JSON, so whoever can write to Redis
+     * cannot make the reader instantiate an arbitrary class.
+     *
+     * @return the JSON serializer.
+     */
+    public static RedisSerializer<Object> json() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.activateDefaultTyping(cachedTypes(),
+                ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    private static PolymorphicTypeValidator cachedTypes() {
+        return BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType(CACHED_PACKAGE)
+                .allowIfSubType(ArrayList.class)
+                .allowIfSubType(UUID.class)
+                .allowIfSubType(LocalDateTime.class)
+                .allowIfSubType(Long.class)
+                .allowIfSubType(Integer.class)
+                .allowIfSubType(NullValue.class)
+                .build();
+    }
+}
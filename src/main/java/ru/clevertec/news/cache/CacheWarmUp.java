@@ -0,0 +1,128 @@
+package ru.clevertec.news.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import ru.clevertec.news.config.NewsCacheProperties;
+import ru.clevertec.news.repository.NewsRepository;
+import ru.clevertec.news.service.NewsService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads the most recent live news and the first pages of the live listing into the active cache on startup.
+ * The loads go through the {@link NewsService} proxy, so they fill whichever cache the profile uses.
+ *
+ * <p>It runs as a lifecycle phase started before the discovery client registration and the web server,
+ * so the instance neither receives traffic nor appears in Eureka until the warm-up is over.
+ * News are loaded in batches by a small pool; whatever is not loaded when the time budget runs out is skipped.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheWarmUp implements SmartLifecycle {
+
+    /**
+     * Lifecycle phase of the warm-up, lower than the default phase of the Eureka auto registration.
+     */
+    public static final int PHASE = -100;
+
+    private final NewsService newsService;
+    private final NewsRepository newsRepository;
+    private final NewsCacheProperties properties;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        running = true;
+        NewsCacheProperties.WarmUp settings = properties.getWarmUp();
+        if (settings.isEnabled()) {
+            warmUp(settings);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Loads the news and pages, waiting for the loads at most for the time budget.
+     *
+     * @param settings the warm-up settings.
+     * @return the number of news and pages loaded.
+     */
+    public int warmUp(NewsCacheProperties.WarmUp settings) {
+        long start = System.nanoTime();
+        AtomicInteger loaded = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(settings.getParallelism(), runnable -> {
+            Thread thread = new Thread(runnable, "cache-warm-up");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<CompletableFuture<Void>> tasks = new ArrayList<>();
+            for (int page = 1; page <= settings.getPages(); page++) {
+                int numberPage = page;
+                tasks.add(CompletableFuture.runAsync(
+                        () -> load(loaded, () -> newsService.getAll(settings.getPageSize(), numberPage)), executor));
+            }
+            List<Long> ids = settings.getRecentNews() > 0
+                    ? newsRepository.findRecentLiveIds(PageRequest.of(0, settings.getRecentNews()))
+                    : List.of();
+            for (int from = 0; from < ids.size(); from += settings.getBatchSize()) {
+                List<Long> batch = ids.subList(from, Math.min(ids.size(), from + settings.getBatchSize()));
+                tasks.add(CompletableFuture.runAsync(
+                        () -> batch.forEach(id -> load(loaded, () -> newsService.get(id))), executor));
+            }
+            CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new))
+                    .get(settings.getBudget().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Cache warm-up ran out of its {} budget", settings.getBudget());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("Cache warm-up failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        log.info("Cache warm-up loaded {} news and pages in {} ms",
+                loaded.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return loaded.get();
+    }
+
+    private void load(AtomicInteger loaded, Runnable load) {
+        if (Thread.currentThread().isInterrupted()) {
+            return;
+        }
+        try {
+            load.run();
+            loaded.incrementAndGet();
+        } catch (RuntimeException e) {
+            log.debug("Cache warm-up skipped an entry", e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package ru.clevertec.news.cache;
+
+import java.io.Serializable;
+
+/**
+ * Cache entry carrying what probabilistic early refresh needs besides the value itself.
+ *
+ * @param value           the cached value.
+ * @param computeMillis   how long the value took to compute.
+ * @param expiresAtMillis the epoch millis at which the value expires.
+ * @param <V>             the type of the cached value.
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public record CachedValue<V>(V value, long computeMillis, long expiresAtMillis) implements Serializable {
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,239 @@
+package ru.clevertec.news.cache;
+
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import ru.clevertec.news.entity.User;
+import ru.clevertec.news.entity.dto.NewsResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Redis value serializer writing {@link NewsResponse} in a compact, versioned binary format
+ * and every other value through a JSON fallback serializer.
+ *
+ * <p>Each value starts with a one byte format tag. {@link #FORMAT_NEWS} is followed by a version byte
+ * and the fields of the news item; {@link #FORMAT_JSON} is followed by the output of the fallback;
+ * {@link #FORMAT_ENTRY} wraps a {@link CachedValue}: a version byte, its compute time and expiry,
+ * then the inner value in any of these formats.
+ * Values written by the JDK serializer before this format was introduced are still readable,
+ * so the serializer can be switched on a populated Redis.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public class CompactCacheValueSerializer implements RedisSerializer<Object> {
+
+    static final byte FORMAT_NEWS = 'N';
+    static final byte FORMAT_JSON = 'J';
+    static final byte FORMAT_ENTRY = 'E';
+    static final byte NEWS_VERSION = 1;
+    static final byte ENTRY_VERSION = 1;
+
+    private static final byte JDK_STREAM_MAGIC = (byte) 0xAC;
+    private static final int HAS_ID = 1;
+    private static final int HAS_TIME = 1 << 1;
+    private static final int HAS_TITLE = 1 << 2;
+    private static final int HAS_TEXT = 1 << 3;
+    private static final int HAS_USER = 1 << 4;
+    private static final int HAS_USER_ID = 1 << 5;
+    private static final int HAS_USER_UUID = 1 << 6;
+    private static final int HAS_USER_NAME = 1 << 7;
+
+    private final RedisSerializer<Object> fallback;
+    private final JdkSerializationRedisSerializer legacy = new JdkSerializationRedisSerializer();
+
+    /**
+     * Constructor for CompactCacheValueSerializer.
+     *
+     * @param fallback the serializer used for values without a binary format, typically JSON.
+     */
+    public CompactCacheValueSerializer(RedisSerializer<Object> fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            if (value instanceof CachedValue<?> entry) {
+                return writeEntry(entry);
+            }
+            if (value instanceof NewsResponse news) {
+                return writeNews(news);
+            }
+            byte[] json = fallback.serialize(value);
+            byte[] bytes = new byte[json.length + 1];
+            bytes[0] = FORMAT_JSON;
+            System.arraycopy(json, 0, bytes, 1, json.length);
+            return bytes;
+        } catch (IOException e) {
+            throw new SerializationException("Cannot serialize " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return switch (bytes[0]) {
+                case FORMAT_NEWS -> readNews(bytes);
+                case FORMAT_ENTRY -> readEntry(bytes);
+                case FORMAT_JSON -> fallback.deserialize(Arrays.copyOfRange(bytes, 1, bytes.length));
+                case JDK_STREAM_MAGIC -> legacy.deserialize(bytes);
+                default -> throw new SerializationException("Unknown cache value format: " + bytes[0]);
+            };
+        } catch (IOException e) {
+            throw new SerializationException("Cannot deserialize cache value", e);
+        }
+    }
+
+    private byte[] writeEntry(CachedValue<?> entry) throws IOException {
+        byte[] inner = serialize(entry.value());
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(inner.length + 16);
+        DataOutputStream out = new DataOutputStream(buffer);
+        out.writeByte(FORMAT_ENTRY);
+        out.writeByte(ENTRY_VERSION);
+        writeVarLong(out, entry.computeMillis());
+        writeVarLong(out, entry.expiresAtMillis());
+        out.write(inner);
+        out.flush();
+        return buffer.toByteArray();
+    }
+
+    private CachedValue<Object> readEntry(byte[] bytes) throws IOException {
+        ByteArrayInputStream stream = new ByteArrayInputStream(bytes, 1, bytes.length - 1);
+        DataInputStream in = new DataInputStream(stream);
+        byte version = in.readByte();
+        if (version != ENTRY_VERSION) {
+            throw new SerializationException("Unsupported cache entry format version: " + version);
+        }
+        long computeMillis = readVarLong(in);
+        long expiresAtMillis = readVarLong(in);
+        Object value = deserialize(in.readAllBytes());
+        return new CachedValue<>(value, computeMillis, expiresAtMillis);
+    }
+
+    private static byte[] writeNews(NewsResponse news) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 + (news.text() == null ? 0 : news.text().length()));
+        DataOutputStream out = new DataOutputStream(buffer);
+        User user = news.user();
+        int flags = (news.id() != null ? HAS_ID : 0)
+                | (news.time() != null ? HAS_TIME : 0)
+                | (news.title() != null ? HAS_TITLE : 0)
+                | (news.text() != null ? HAS_TEXT : 0)
+                | (user != null ? HAS_USER : 0)
+                | (user != null && user.getId() != null ? HAS_USER_ID : 0)
+                | (user != null && user.getUuid() != null ? HAS_USER_UUID : 0)
+                | (user != null && user.getUserName() != null ? HAS_USER_NAME : 0);
+
+        out.writeByte(FORMAT_NEWS);
+        out.writeByte(NEWS_VERSION);
+        out.writeByte(flags);
+        if (news.id() != null) {
+            writeVarLong(out, news.id());
+        }
+        if (news.time() != null) {
+            writeVarLong(out, news.time().toEpochSecond(ZoneOffset.UTC));
+            writeVarLong(out, news.time().getNano());
+        }
+        if (news.title() != null) {
+            writeString(out, news.title());
+        }
+        if (news.text() != null) {
+            writeString(out, news.text());
+        }
+        if (user != null) {
+            if (user.getId() != null) {
+                writeVarLong(out, user.getId());
+            }
+            if (user.getUuid() != null) {
+                out.writeLong(user.getUuid().getMostSignificantBits());
+                out.writeLong(user.getUuid().getLeastSignificantBits());
+            }
+            if (user.getUserName() != null) {
+                writeString(out, user.getUserName());
+            }
+        }
+        out.flush();
+        return buffer.toByteArray();
+    }
+
+    private static NewsResponse readNews(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1));
+        byte version = in.readByte();
+        if (version != NEWS_VERSION) {
+            throw new SerializationException("Unsupported news cache format version: " + version);
+        }
+        int flags = in.readUnsignedByte();
+        Long id = (flags & HAS_ID) != 0 ? readVarLong(in) : null;
+        LocalDateTime time = null;
+        if ((flags & HAS_TIME) != 0) {
+            long epochSecond = readVarLong(in);
+            int nano = (int) readVarLong(in);
+            time = LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        }
+        String title = (flags & HAS_TITLE) != 0 ? readString(in) : null;
+        String text = (flags & HAS_TEXT) != 0 ? readString(in) : null;
+        User user = null;
+        if ((flags & HAS_USER) != 0) {
+            Long userId = (flags & HAS_USER_ID) != 0 ? readVarLong(in) : null;
+            UUID uuid = (flags & HAS_USER_UUID) != 0 ? new UUID(in.readLong(), in.readLong()) : null;
+            String userName = (flags & HAS_USER_NAME) != 0 ? readString(in) : null;
+            user = new User(userId, uuid, userName);
+        }
+        return new NewsResponse(id, time, title, text, user);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] utf8 = new byte[(int) readVarLong(in)];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a long as a zig-zag encoded variable length integer: IDs and timestamps take 1-5 bytes instead of 8.
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long zigZag = (value << 1) ^ (value >> 63);
+        while ((zigZag & ~0x7FL) != 0) {
+            out.writeByte((int) ((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+        out.writeByte((int) zigZag);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long zigZag = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift > 63) {
+                throw new SerializationException("Malformed variable length integer");
+            }
+            b = in.readByte();
+            zigZag |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return (zigZag >>> 1) ^ -(zigZag & 1);
+    }
+}
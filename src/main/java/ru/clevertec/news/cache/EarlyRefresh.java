@@ -0,0 +1,156 @@
+package ru.clevertec.news.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+
+/**
+ * Expiry and probabilistic early recomputation (XFetch) of the entries of one cache.
+ *
+ * <p>An entry remembers how long its value took to compute ({@code delta}). Each read of a live entry
+ * recomputes it early with probability growing as expiry nears: when
+ * {@code now - delta * beta * ln(random) >= expiry}. That caller still returns the current value and the
+ * recomputation runs in the background, so a hot entry is normally replaced before it expires
+ * instead of every concurrent caller falling through to the database at once.
+ * Entries that are missing or expired are loaded synchronously, once per key.
+ *
+ * @param <K> the type of keys.
+ * @param <V> the type of values.
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Slf4j
+public class EarlyRefresh<K, V> {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final Duration ttl;
+    private final double beta;
+    private final Executor executor;
+    private final SingleFlight<K, CachedValue<V>> singleFlight = new SingleFlight<>(LOCK_STRIPES);
+    private final Set<K> scheduled = ConcurrentHashMap.newKeySet();
+    private final Counter earlyRefreshes;
+    private final Counter synchronousRefreshes;
+
+    /**
+     * Constructor for EarlyRefresh.
+     *
+     * @param cacheName     the name of the cache, used as a metric tag.
+     * @param ttl           the time to live of entries.
+     * @param beta          the XFetch beta, 0 disables early refresh.
+     * @param executor      the executor running background refreshes.
+     * @param meterRegistry the registry of the refresh counters.
+     */
+    public EarlyRefresh(String cacheName, Duration ttl, double beta, Executor executor, MeterRegistry meterRegistry) {
+        this.ttl = ttl;
+        this.beta = beta;
+        this.executor = executor;
+        this.earlyRefreshes = Counter.builder("news.cache.refresh")
+                .description("Recomputations of cache entries")
+                .tag("cache", cacheName)
+                .tag("mode", "early")
+                .register(meterRegistry);
+        this.synchronousRefreshes = Counter.builder("news.cache.refresh")
+                .description("Recomputations of cache entries")
+                .tag("cache", cacheName)
+                .tag("mode", "sync")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached value, refreshing it early in the background or loading it synchronously when needed.
+     *
+     * @param key    the key.
+     * @param cached the current entry of the key, {@code null} if there is none.
+     * @param loader the action computing the value.
+     * @param store  the action storing a recomputed entry; it is skipped when a write overtook the load.
+     * @return the value.
+     * @throws Throwable the failure of a synchronous load.
+     */
+    public V get(K key, CachedValue<V> cached, SingleFlight.Loader<V> loader,
+                 BiConsumer<K, CachedValue<V>> store) throws Throwable {
+        long now = System.currentTimeMillis();
+        if (cached != null && !cached.isExpired(now)) {
+            if (shouldRefreshEarly(cached, now)) {
+                refreshInBackground(key, loader, store);
+            }
+            return cached.value();
+        }
+        return singleFlight.load(key, () -> {
+            synchronousRefreshes.increment();
+            return compute(loader);
+        }, store).value();
+    }
+
+    /**
+     * Runs a write of the key so that no load of the key running concurrently can store an older value over it.
+     *
+     * @param key    the key being written.
+     * @param action the write action.
+     * @param <T>    the type of the action result.
+     * @return the result of the action.
+     * @throws Throwable the failure of the action.
+     */
+    public <T> T write(K key, SingleFlight.Loader<T> action) throws Throwable {
+        return singleFlight.write(key, action);
+    }
+
+    /**
+     * Wraps a value written directly, e.g. after an update, into an entry expiring after the TTL.
+     *
+     * @param value the value.
+     * @return the entry.
+     */
+    public CachedValue<V> wrap(V value) {
+        return new CachedValue<>(value, 0, System.currentTimeMillis() + ttl.toMillis());
+    }
+
+    public Duration ttl() {
+        return ttl;
+    }
+
+    boolean shouldRefreshEarly(CachedValue<V> cached, long now) {
+        if (beta <= 0 || cached.computeMillis() <= 0) {
+            return false;
+        }
+        double random = ThreadLocalRandom.current().nextDouble();
+        return now - cached.computeMillis() * beta * Math.log(random) >= cached.expiresAtMillis();
+    }
+
+    private void refreshInBackground(K key, SingleFlight.Loader<V> loader, BiConsumer<K, CachedValue<V>> store) {
+        if (singleFlight.isInFlight(key) || !scheduled.add(key)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    singleFlight.load(key, () -> {
+                        earlyRefreshes.increment();
+                        return compute(loader);
+                    }, store);
+                } catch (Throwable e) {
+                    log.warn("Early refresh of cache key {} failed", key, e);
+                } finally {
+                    scheduled.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            scheduled.remove(key);
+        }
+    }
+
+    private CachedValue<V> compute(SingleFlight.Loader<V> loader) throws Throwable {
+        long start = System.nanoTime();
+        V value = loader.load();
+        long computeMillis = Math.max(1, Duration.ofNanos(System.nanoTime() - start).toMillis());
+        return new CachedValue<>(value, computeMillis, System.currentTimeMillis() + ttl.toMillis());
+    }
+}
@@ -0,0 +1,141 @@
+package ru.clevertec.news.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import ru.clevertec.news.datasource.ReplicaRouting;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Cache decorator storing values as {@link CachedValue} entries with a TTL and refreshing hot entries
+ * early through {@link EarlyRefresh}. Synchronized cacheable methods get the full stampede protection;
+ * plain lookups only see live entries.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public class EarlyRefreshCache implements Cache {
+
+    private final Cache delegate;
+    private final EarlyRefresh<Object, Object> earlyRefresh;
+
+    /**
+     * Constructor for EarlyRefreshCache.
+     *
+     * @param delegate     the cache storing the entries.
+     * @param earlyRefresh the expiry and refresh policy of this cache.
+     */
+    public EarlyRefreshCache(Cache delegate, EarlyRefresh<Object, Object> earlyRefresh) {
+        this.delegate = delegate;
+        this.earlyRefresh = earlyRefresh;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        CachedValue<Object> entry = entry(key);
+        if (entry == null || entry.isExpired(System.currentTimeMillis())) {
+            return null;
+        }
+        return new SimpleValueWrapper(entry.value());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        try {
+            return (T) earlyRefresh.get(key, entry(key), () -> ReplicaRouting.fillCache(valueLoader::call), this::fill);
+        } catch (Throwable e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        write(key, () -> {
+            delegate.put(key, earlyRefresh.wrap(value));
+            return null;
+        });
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = get(key);
+        if (existing == null) {
+            put(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        write(key, () -> {
+            delegate.evict(key);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return Boolean.TRUE.equals(write(key, () -> delegate.evictIfPresent(key)));
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    /**
+     * Returns the stored entry of the key; values stored before entries carried an expiry count as missing.
+     */
+    @SuppressWarnings("unchecked")
+    private CachedValue<Object> entry(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper != null && wrapper.get() instanceof CachedValue<?> entry) {
+            return (CachedValue<Object>) entry;
+        }
+        return null;
+    }
+
+    /**
+     * Stores a loaded or refreshed entry; a {@link NearCache} keeps it from invalidating other nodes,
+     * which only real writes should do.
+     */
+    private void fill(Object key, CachedValue<Object> entry) {
+        if (delegate instanceof NearCache nearCache) {
+            nearCache.fill(key, entry);
+        } else {
+            delegate.put(key, entry);
+        }
+    }
+
+    private <T> T write(Object key, SingleFlight.Loader<T> action) {
+        try {
+            return earlyRefresh.write(key, action);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
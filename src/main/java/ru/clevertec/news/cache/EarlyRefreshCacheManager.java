@@ -0,0 +1,61 @@
+package ru.clevertec.news.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import ru.clevertec.news.config.NewsCacheProperties;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Cache manager decorating every cache of another manager with a per-cache TTL and early refresh.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public class EarlyRefreshCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final NewsCacheProperties properties;
+    private final Executor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, EarlyRefreshCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for EarlyRefreshCacheManager.
+     *
+     * @param delegate        the manager of the underlying caches.
+     * @param properties      the cache settings holding TTLs and the XFetch beta.
+     * @param refreshExecutor the executor running background refreshes.
+     * @param meterRegistry   the registry of the refresh counters.
+     */
+    public EarlyRefreshCacheManager(CacheManager delegate, NewsCacheProperties properties,
+                                    Executor refreshExecutor, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        EarlyRefreshCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new EarlyRefreshCache(target, new EarlyRefresh<>(cacheName,
+                properties.ttlFor(cacheName), properties.getEarlyRefreshBeta(), refreshExecutor, meterRegistry)));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,32 @@
+package ru.clevertec.news.cache;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ListingGenerations} kept in the memory of a single node, used outside the prod profile and in tests.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Component("listingGenerations")
+@Profile("!prod")
+public class InMemoryListingGenerations implements ListingGenerations {
+
+    private final ConcurrentMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    @Override
+    public long current(String listing) {
+        AtomicLong generation = generations.get(listing);
+        return generation == null ? 0 : generation.get();
+    }
+
+    @Override
+    public void bump(String listing) {
+        generations.computeIfAbsent(listing, key -> new AtomicLong()).incrementAndGet();
+    }
+}
@@ -0,0 +1,55 @@
+package ru.clevertec.news.cache;
+
+/**
+ * Generation counters of the news listings and of the search results shared by all nodes.
+ * Cached listing pages are stored under keys carrying the current generation, so bumping the counter
+ * invalidates every page of a listing in O(1); pages of old generations are never read again
+ * and age out through the TTL of their cache.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public interface ListingGenerations {
+
+    /**
+     * Listing of news that are not archived.
+     */
+    String LIVE = "live";
+
+    /**
+     * Listing of archived news.
+     */
+    String ARCHIVE = "archive";
+
+    /**
+     * Full-text search results, whatever the state of the news.
+     */
+    String SEARCH = "search";
+
+    /**
+     * Returns the current generation of a listing.
+     *
+     * @param listing the listing name.
+     * @return the current generation.
+     */
+    long current(String listing);
+
+    /**
+     * Starts a new generation of a listing.
+     *
+     * @param listing the listing name.
+     */
+    void bump(String listing);
+
+    /**
+     * Builds the cache key of a listing page in the current generation.
+     *
+     * @param listing    the listing name.
+     * @param pageSize   the number of news items per page.
+     * @param numberPage the page number.
+     * @return the cache key.
+     */
+    default String pageKey(String listing, int pageSize, int numberPage) {
+        return listing + ":g" + current(listing) + ":" + pageSize + ":" + numberPage;
+    }
+}
@@ -0,0 +1,74 @@
+package ru.clevertec.news.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thread-safe bounded map evicting the least recently used entry once the capacity is exceeded.
+ *
+ * @param <K> the type of keys.
+ * @param <V> the type of values.
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public class LruMap<K, V> {
+
+    private final int capacity;
+    private final LinkedHashMap<K, V> map;
+    private long evictions;
+
+    /**
+     * Constructor for LruMap.
+     *
+     * @param capacity the maximum number of entries kept.
+     */
+    public LruMap(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() > LruMap.this.capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        return map.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        map.put(key, value);
+    }
+
+    public synchronized V remove(K key) {
+        return map.remove(key);
+    }
+
+    public synchronized void clear() {
+        map.clear();
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    /**
+     * Returns the number of entries dropped so far to stay within the capacity.
+     *
+     * @return the number of capacity evictions.
+     */
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
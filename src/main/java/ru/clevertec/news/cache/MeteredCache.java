@@ -0,0 +1,117 @@
+package ru.clevertec.news.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache decorator recording {@link CacheMeters} for every operation of the wrapped cache.
+ * A synchronized lookup counts as a miss only when the calling thread computed the value itself;
+ * callers joining a load in flight and values refreshed in the background count as hits.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public class MeteredCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheMeters meters;
+
+    /**
+     * Constructor for MeteredCache.
+     *
+     * @param delegate the cache being measured.
+     * @param meters   the meters of the cache.
+     */
+    public MeteredCache(Cache delegate, CacheMeters meters) {
+        this.delegate = delegate;
+        this.meters = meters;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = meters.getTimer().record(() -> delegate.get(key));
+        if (wrapper != null) {
+            meters.hit();
+        } else {
+            meters.miss();
+        }
+        return wrapper;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        T value = meters.getTimer().record(() -> delegate.get(key, type));
+        if (value != null) {
+            meters.hit();
+        } else {
+            meters.miss();
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Thread caller = Thread.currentThread();
+        boolean[] loaded = new boolean[1];
+        long start = System.nanoTime();
+        try {
+            return delegate.get(key, () -> {
+                if (Thread.currentThread() == caller) {
+                    loaded[0] = true;
+                }
+                return meters.loadTimer().recordCallable(valueLoader);
+            });
+        } finally {
+            meters.getTimer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (loaded[0]) {
+                meters.miss();
+            } else {
+                meters.hit();
+            }
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        meters.putTimer().record(() -> delegate.put(key, value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return meters.putTimer().record(() -> delegate.putIfAbsent(key, value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        meters.explicitEviction();
+        meters.evictTimer().record(() -> delegate.evict(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        long start = System.nanoTime();
+        boolean present = delegate.evictIfPresent(key);
+        meters.evictTimer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (present) {
+            meters.explicitEviction();
+        }
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+}
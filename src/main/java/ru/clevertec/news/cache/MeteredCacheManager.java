@@ -0,0 +1,60 @@
+package ru.clevertec.news.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Cache manager decorating every cache of another manager with a {@link MeteredCache}.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public class MeteredCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final MeterRegistry meterRegistry;
+    private final ToLongFunction<String> size;
+    private final ToLongFunction<String> sizeEvictions;
+    private final ConcurrentMap<String, MeteredCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for MeteredCacheManager.
+     *
+     * @param delegate      the manager of the caches being measured.
+     * @param meterRegistry the registry of the meters.
+     * @param size          the number of entries held in memory by the cache of the given name.
+     * @param sizeEvictions the number of capacity evictions of the cache of the given name.
+     */
+    public MeteredCacheManager(CacheManager delegate, MeterRegistry meterRegistry,
+                               ToLongFunction<String> size, ToLongFunction<String> sizeEvictions) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.size = size;
+        this.sizeEvictions = sizeEvictions;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        MeteredCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new MeteredCache(target, new CacheMeters(cacheName,
+                meterRegistry, () -> size.applyAsLong(cacheName), () -> sizeEvictions.applyAsLong(cacheName))));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,232 @@
+package ru.clevertec.news.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Two-tier cache: a bounded in-process L1 in front of a shared L2 such as a Redis cache.
+ * Reads are served from L1 while the entry is younger than the local TTL; writes go to L2,
+ * refresh the local copy and publish an invalidation so other nodes drop theirs.
+ * Values loaded after a miss or recomputed by a refresh are {@link #fill filled} without an invalidation,
+ * since they do not change what other nodes may hold.
+ * The local TTL only bounds staleness if an invalidation message is lost.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public class NearCache implements Cache {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final Cache delegate;
+    private final LruMap<String, LocalEntry> local;
+    private final long ttlNanos;
+    private final Consumer<String> invalidationPublisher;
+    private final SingleFlight<String, Object> singleFlight;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Constructor for NearCache.
+     *
+     * @param delegate              the shared L2 cache.
+     * @param capacity              the maximum number of entries kept in L1.
+     * @param ttl                   the maximum age of an L1 entry.
+     * @param invalidationPublisher receives the key of every changed entry, {@code null} on clear.
+     */
+    public NearCache(Cache delegate, int capacity, Duration ttl, Consumer<String> invalidationPublisher) {
+        this.delegate = delegate;
+        this.local = new LruMap<>(capacity);
+        this.ttlNanos = ttl.toNanos();
+        this.invalidationPublisher = invalidationPublisher;
+        this.singleFlight = new SingleFlight<>(LOCK_STRIPES);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        LocalEntry entry = localGet(localKey);
+        if (entry != null) {
+            return entry.wrapper();
+        }
+        long version = invalidations.get();
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper != null) {
+            localPut(localKey, wrapper, version);
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    /**
+     * Returns the cached value or loads it once per key across concurrent callers of this node.
+     * Unlike the Redis cache this does not synchronize on the whole cache.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        String localKey = localKey(key);
+        long version = invalidations.get();
+        try {
+            return (T) singleFlight.load(localKey, () -> {
+                ValueWrapper shared = delegate.get(key);
+                if (shared != null) {
+                    return shared.get();
+                }
+                T value = valueLoader.call();
+                delegate.put(key, value);
+                return value;
+            }, (k, value) -> localPut(k, new SimpleValueWrapper(value), version));
+        } catch (Throwable e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = localKey(key);
+        delegate.put(key, value);
+        invalidateLocal(localKey);
+        localPut(localKey, new SimpleValueWrapper(value), invalidations.get());
+        invalidationPublisher.accept(localKey);
+    }
+
+    /**
+     * Stores a value loaded from the source of truth in L2 and L1 without invalidating other nodes.
+     *
+     * @param key   the key.
+     * @param value the loaded value.
+     */
+    public void fill(Object key, Object value) {
+        String localKey = localKey(key);
+        long version = invalidations.get();
+        delegate.put(key, value);
+        localPut(localKey, new SimpleValueWrapper(value), version);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        String localKey = localKey(key);
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        invalidateLocal(localKey);
+        invalidationPublisher.accept(localKey);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        delegate.evict(key);
+        invalidateLocal(localKey);
+        invalidationPublisher.accept(localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        String localKey = localKey(key);
+        boolean present = delegate.evictIfPresent(key);
+        invalidateLocal(localKey);
+        invalidationPublisher.accept(localKey);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        clearLocal();
+        invalidationPublisher.accept(null);
+    }
+
+    /**
+     * Drops the local copy of an entry changed on another node.
+     *
+     * @param localKey the string form of the key.
+     */
+    public void invalidateLocal(String localKey) {
+        invalidations.incrementAndGet();
+        local.remove(localKey);
+    }
+
+    /**
+     * Drops every local copy after the cache was cleared on another node.
+     */
+    public void clearLocal() {
+        invalidations.incrementAndGet();
+        local.clear();
+    }
+
+    /**
+     * Returns the number of entries currently held in L1.
+     *
+     * @return the L1 size.
+     */
+    public int localSize() {
+        return local.size();
+    }
+
+    /**
+     * Returns the number of entries L1 dropped to stay within its capacity.
+     *
+     * @return the number of L1 capacity evictions.
+     */
+    public long localEvictions() {
+        return local.evictions();
+    }
+
+    private LocalEntry localGet(String localKey) {
+        LocalEntry entry = local.get(localKey);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAtNanos() > 0) {
+            local.remove(localKey);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Stores an L1 copy unless an invalidation arrived since the value was read,
+     * which would otherwise let a read racing with a remote write pin the old value locally.
+     */
+    private void localPut(String localKey, ValueWrapper wrapper, long version) {
+        if (invalidations.get() == version) {
+            local.put(localKey, new LocalEntry(wrapper, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private record LocalEntry(ValueWrapper wrapper, long expiresAtNanos) {
+    }
+}
@@ -0,0 +1,92 @@
+package ru.clevertec.news.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache manager decorating every cache of a shared cache manager with a {@link NearCache}
+ * and keeping the local tiers of all nodes consistent through a {@link CacheInvalidationBus}.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public class NearCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final CacheInvalidationBus invalidationBus;
+    private final int capacity;
+    private final Duration ttl;
+    private final String nodeId;
+    private final ConcurrentMap<String, NearCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for NearCacheManager.
+     *
+     * @param delegate        the manager of the shared caches, e.g. a RedisCacheManager.
+     * @param invalidationBus the channel connecting the nodes.
+     * @param capacity        the maximum number of entries kept locally per cache.
+     * @param ttl             the maximum age of a local entry.
+     */
+    public NearCacheManager(CacheManager delegate, CacheInvalidationBus invalidationBus, int capacity, Duration ttl) {
+        this(delegate, invalidationBus, capacity, ttl, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Constructor for NearCacheManager publishing under the id of a {@link CacheNode}.
+     *
+     * @param delegate        the manager of the shared caches, e.g. a RedisCacheManager.
+     * @param invalidationBus the channel connecting the nodes.
+     * @param capacity        the maximum number of entries kept locally per cache.
+     * @param ttl             the maximum age of a local entry.
+     * @param nodeId          the id of this node in the origin of its invalidations.
+     */
+    public NearCacheManager(CacheManager delegate, CacheInvalidationBus invalidationBus, int capacity, Duration ttl,
+                            String nodeId) {
+        this.delegate = delegate;
+        this.invalidationBus = invalidationBus;
+        this.capacity = capacity;
+        this.ttl = ttl;
+        this.nodeId = nodeId;
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        NearCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new NearCache(target, capacity, ttl,
+                key -> invalidationBus.publish(new CacheInvalidation(nodeId, cacheName, key))));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        NearCache cache = caches.get(invalidation.cacheName());
+        if (cache == null) {
+            return;
+        }
+        if (invalidation.key() == null) {
+            cache.clearLocal();
+        } else {
+            cache.invalidateLocal(invalidation.key());
+        }
+    }
+}
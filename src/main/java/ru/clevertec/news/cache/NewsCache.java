@@ -0,0 +1,27 @@
+package ru.clevertec.news.cache;
+
+import ru.clevertec.news.entity.dto.NewsResponse;
+
+/**
+ * Cache of news items by ID as seen by the write path, independent of the active cache provider.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public interface NewsCache {
+
+    /**
+     * Stores the current state of a news item.
+     *
+     * @param id   the ID of the news item.
+     * @param news the news item.
+     */
+    void put(Long id, NewsResponse news);
+
+    /**
+     * Removes a news item from the cache.
+     *
+     * @param id the ID of the news item.
+     */
+    void evict(Long id);
+}
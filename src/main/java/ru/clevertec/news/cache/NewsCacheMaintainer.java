@@ -0,0 +1,59 @@
+package ru.clevertec.news.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.clevertec.news.event.NewsArchivedBatchEvent;
+import ru.clevertec.news.event.NewsChangedEvent;
+
+import java.util.List;
+
+/**
+ * Single place keeping the news caches in line with the database.
+ * It runs only after the changing transaction commits: created and updated news are written under their ID,
+ * archived news are evicted, the generations of the affected listings are bumped,
+ * and a rolled back change touches no cache at all.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class NewsCacheMaintainer {
+
+    private final List<NewsCache> newsCaches;
+    private final ListingGenerations listingGenerations;
+
+    /**
+     * Applies a committed news change to every active news cache and listing.
+     *
+     * @param event the committed change.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNewsChanged(NewsChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> {
+                newsCaches.forEach(cache -> cache.put(event.id(), event.news()));
+                listingGenerations.bump(ListingGenerations.LIVE);
+            }
+            case ARCHIVED -> {
+                newsCaches.forEach(cache -> cache.evict(event.id()));
+                listingGenerations.bump(ListingGenerations.LIVE);
+                listingGenerations.bump(ListingGenerations.ARCHIVE);
+            }
+        }
+    }
+
+    /**
+     * Applies a committed bulk archive: every ID is evicted and each listing is bumped once for the whole chunk.
+     *
+     * @param event the committed bulk archive.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNewsArchived(NewsArchivedBatchEvent event) {
+        newsCaches.forEach(cache -> event.ids().forEach(cache::evict));
+        listingGenerations.bump(ListingGenerations.LIVE);
+        listingGenerations.bump(ListingGenerations.ARCHIVE);
+    }
+}
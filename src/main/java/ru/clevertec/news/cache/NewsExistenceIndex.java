@@ -0,0 +1,267 @@
+package ru.clevertec.news.cache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.clevertec.news.datasource.ReplicaRouting;
+import ru.clevertec.news.event.NewsArchivedBatchEvent;
+import ru.clevertec.news.event.NewsChangedEvent;
+
+import java.sql.PreparedStatement;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory index telling which news IDs exist and whether they are archived, so that lookups of
+ * wrong-state IDs are answered without a database round trip.
+ *
+ * <p>Two {@link IdBitmap}s of live and archived IDs are loaded at startup up to a watermark, the highest ID
+ * at that moment. An ID is ruled out only when the index knows it in the other state. Everything else falls
+ * through to the database:
+ * <ul>
+ *     <li>IDs in neither bitmap, even below the watermark: the pooled ID sequence hands every node its own
+ *     block of IDs, so a lower ID may be committed by another node after the load, or by a transaction still
+ *     running while it read the bitmaps, and the message announcing it may be lost;</li>
+ *     <li>IDs marked stale: changed by a transaction that has not committed yet, or by another node,
+ *     which announces changes through the {@link CacheInvalidationBus}.</li>
+ * </ul>
+ * A stale ID becomes known again after this node commits its change or reads the ID from the primary
+ * outside of a writing transaction with no change of the index in between. Reads served by a replica are
+ * never recorded, since the replica may not have seen a change announced by another node yet. Changes committed while the bitmaps are being loaded
+ * are kept stale, since the load may have read them either way.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class NewsExistenceIndex {
+
+    /**
+     * Cache name of the messages announcing changed IDs to the other nodes.
+     */
+    public static final String INVALIDATION_NAME = "news-existence";
+
+    private static final String MAX_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM news";
+    private static final String IDS_SQL = "SELECT id, is_archive FROM news WHERE id <= ?";
+    private static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final CacheInvalidationBus invalidationBus;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong changes = new AtomicLong();
+    private final IdBitmap stale = new IdBitmap(0);
+    private volatile IdBitmap live = new IdBitmap(0);
+    private volatile IdBitmap archived = new IdBitmap(0);
+    private volatile long watermark = -1;
+    private volatile boolean loading;
+
+    /**
+     * Constructor for NewsExistenceIndex.
+     *
+     * @param jdbcTemplate       the template reading the IDs at startup.
+     * @param transactionManager the manager of the read-only transaction streaming the IDs.
+     * @param invalidationBus    the channel announcing changed IDs to the other nodes.
+     */
+    public NewsExistenceIndex(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                              CacheInvalidationBus invalidationBus) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    /**
+     * Loads the IDs of all news. The rows are streamed inside a read-only transaction,
+     * so the driver fetches them in batches instead of materializing the whole table.
+     */
+    @PostConstruct
+    public void load() {
+        long start = System.nanoTime();
+        loading = true;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> loadBitmaps());
+        } finally {
+            loading = false;
+        }
+        log.info("News existence index loaded: {} live, {} archived up to ID {} in {} ms",
+                live.cardinality(), archived.cardinality(), watermark, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Tells whether the index is certain that the news item is not in the requested state.
+     *
+     * @param id       the ID of the news item.
+     * @param archived {@code true} for a lookup in the archive.
+     * @return {@code true} if the item is known to be in the other state.
+     */
+    public boolean rulesOut(Long id, boolean archived) {
+        if (id == null || watermark < 0 || stale.get(id)) {
+            return false;
+        }
+        return archived ? live.get(id) : this.archived.get(id);
+    }
+
+    /**
+     * Returns the change version to pass to {@link #record(Long, boolean, long)} for a read started now.
+     *
+     * @return the current change version.
+     */
+    public long version() {
+        return changes.get();
+    }
+
+    /**
+     * Records the state of a news item read from the database. Ignored inside writing transactions,
+     * whose reads may be rolled back, for reads served by a replica, which may lag behind the change that made
+     * the ID stale, and when the index changed since the read started.
+     *
+     * @param id       the ID of the news item.
+     * @param archived whether the item is archived.
+     * @param version  the change version taken before the read.
+     */
+    public void record(Long id, boolean archived, long version) {
+        if (loading || ReplicaRouting.isLastReadFromReplica()
+                || TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        synchronized (stale) {
+            if (changes.get() == version) {
+                apply(id, archived);
+            }
+        }
+    }
+
+    /**
+     * Marks the changed ID stale while the changing transaction runs.
+     *
+     * @param event the change, published inside the transaction.
+     */
+    @EventListener
+    public void onNewsChanging(NewsChangedEvent event) {
+        markStale(event.id());
+    }
+
+    /**
+     * Applies a committed change and announces it to the other nodes.
+     *
+     * @param event the committed change.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNewsChanged(NewsChangedEvent event) {
+        if (loading) {
+            markStale(event.id());
+        } else {
+            synchronized (stale) {
+                changes.incrementAndGet();
+                apply(event.id(), event.type() == NewsChangedEvent.ChangeType.ARCHIVED);
+            }
+        }
+        invalidationBus.publish(new CacheInvalidation(nodeId, INVALIDATION_NAME, String.valueOf(event.id())));
+    }
+
+    /**
+     * Marks the IDs of a bulk archive stale while the archiving transaction runs.
+     *
+     * @param event the bulk archive, published inside the transaction.
+     */
+    @EventListener
+    public void onNewsArchiving(NewsArchivedBatchEvent event) {
+        event.ids().forEach(this::markStale);
+    }
+
+    /**
+     * Applies a committed bulk archive under a single lock and announces every archived ID to the other nodes.
+     *
+     * @param event the committed bulk archive.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNewsArchived(NewsArchivedBatchEvent event) {
+        if (loading) {
+            event.ids().forEach(this::markStale);
+        } else {
+            synchronized (stale) {
+                changes.incrementAndGet();
+                event.ids().forEach(id -> apply(id, true));
+            }
+        }
+        event.ids().forEach(id ->
+                invalidationBus.publish(new CacheInvalidation(nodeId, INVALIDATION_NAME, String.valueOf(id))));
+    }
+
+    /**
+     * Returns the memory taken by the bitmaps.
+     *
+     * @return the size of the bitmaps in bytes.
+     */
+    public long sizeInBytes() {
+        return live.sizeInBytes() + archived.sizeInBytes() + stale.sizeInBytes();
+    }
+
+    private void loadBitmaps() {
+        Long maxId = jdbcTemplate.queryForObject(MAX_ID_SQL, Long.class);
+        long loadedWatermark = maxId == null ? 0 : maxId;
+        IdBitmap loadedLive = new IdBitmap(loadedWatermark);
+        IdBitmap loadedArchived = new IdBitmap(loadedWatermark);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(IDS_SQL);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, loadedWatermark);
+            return statement;
+        }, resultSet -> {
+            long id = resultSet.getLong(1);
+            if (resultSet.getBoolean(2)) {
+                loadedArchived.set(id);
+            } else {
+                loadedLive.set(id);
+            }
+        });
+        synchronized (stale) {
+            live = loadedLive;
+            archived = loadedArchived;
+            watermark = loadedWatermark;
+        }
+    }
+
+    private void apply(Long id, boolean isArchived) {
+        if (isArchived) {
+            live.clear(id);
+            archived.set(id);
+        } else {
+            archived.clear(id);
+            live.set(id);
+        }
+        stale.clear(id);
+    }
+
+    private void markStale(Long id) {
+        if (id == null) {
+            return;
+        }
+        synchronized (stale) {
+            changes.incrementAndGet();
+            stale.set(id);
+        }
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.origin()) || !INVALIDATION_NAME.equals(invalidation.cacheName())) {
+            return;
+        }
+        if (invalidation.key() == null) {
+            load();
+        } else {
+            markStale(Long.valueOf(invalidation.key()));
+        }
+    }
+}
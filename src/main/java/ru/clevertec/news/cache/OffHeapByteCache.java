@@ -0,0 +1,112 @@
+package ru.clevertec.news.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Least recently used cache of byte arrays kept in direct buffers, outside of the garbage collected heap,
+ * and bounded by the total number of bytes rather than the number of entries.
+ * Direct memory of an evicted entry is released once its buffer is collected,
+ * so {@code -XX:MaxDirectMemorySize} should leave room above the configured bound.
+ *
+ * @param <K> the type of keys.
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public class OffHeapByteCache<K> {
+
+    private final long maxBytes;
+    private final LinkedHashMap<K, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long usedBytes;
+    private long evictions;
+
+    /**
+     * Constructor for OffHeapByteCache.
+     *
+     * @param maxBytes the maximum number of bytes held by all entries together.
+     */
+    public OffHeapByteCache(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Size must be positive: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns a read-only view of the cached bytes with its own position, or {@code null} if there is no live entry.
+     *
+     * @param key the key.
+     * @return the cached bytes.
+     */
+    public synchronized ByteBuffer get(K key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() >= entry.expiresAtMillis()) {
+            remove(key);
+            return null;
+        }
+        return entry.buffer().asReadOnlyBuffer();
+    }
+
+    /**
+     * Copies the bytes off-heap and stores them, evicting the least recently used entries to stay within the bound.
+     * Values larger than the whole cache are not stored.
+     *
+     * @param key             the key.
+     * @param bytes           the bytes to store.
+     * @param expiresAtMillis the epoch millis at which the entry expires.
+     */
+    public void put(K key, byte[] bytes, long expiresAtMillis) {
+        if (bytes.length > maxBytes) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        synchronized (this) {
+            remove(key);
+            entries.put(key, new Entry(buffer, expiresAtMillis));
+            usedBytes += bytes.length;
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (usedBytes > maxBytes && eldest.hasNext()) {
+                usedBytes -= eldest.next().buffer().capacity();
+                eldest.remove();
+                evictions++;
+            }
+        }
+    }
+
+    public synchronized void remove(K key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            usedBytes -= entry.buffer().capacity();
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        usedBytes = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long usedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Returns the number of entries dropped so far to stay within the bound.
+     *
+     * @return the number of size evictions.
+     */
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    private record Entry(ByteBuffer buffer, long expiresAtMillis) {
+    }
+}
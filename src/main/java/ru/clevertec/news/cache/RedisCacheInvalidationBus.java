@@ -0,0 +1,55 @@
+package ru.clevertec.news.cache;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation bus on top of Redis pub/sub, connecting every instance that uses the same Redis.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public class RedisCacheInvalidationBus implements CacheInvalidationBus, MessageListener {
+
+    /**
+     * Redis channel the invalidations are published to.
+     */
+    public static final String CHANNEL = "news-service:cache-invalidation";
+
+    private final StringRedisTemplate redisTemplate;
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructor for RedisCacheInvalidationBus.
+     *
+     * @param redisTemplate template used for publishing.
+     */
+    public RedisCacheInvalidationBus(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        redisTemplate.convertAndSend(CHANNEL, invalidation.encode());
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Dispatches a message received from the channel to the subscribed listeners.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidation invalidation = CacheInvalidation.decode(new String(message.getBody(), StandardCharsets.UTF_8));
+        listeners.forEach(listener -> listener.accept(invalidation));
+    }
+}
@@ -0,0 +1,36 @@
+package ru.clevertec.news.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * {@link ListingGenerations} stored as Redis counters, so every node sees a bump made by any other node.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public class RedisListingGenerations implements ListingGenerations {
+
+    private static final String KEY_PREFIX = "news-service:listing-generation:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * Constructor for RedisListingGenerations.
+     *
+     * @param redisTemplate template used to read and increment the counters.
+     */
+    public RedisListingGenerations(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public long current(String listing) {
+        String generation = redisTemplate.opsForValue().get(KEY_PREFIX + listing);
+        return generation == null ? 0 : Long.parseLong(generation);
+    }
+
+    @Override
+    public void bump(String listing) {
+        redisTemplate.opsForValue().increment(KEY_PREFIX + listing);
+    }
+}
@@ -0,0 +1,129 @@
+package ru.clevertec.news.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.clevertec.news.config.NewsCacheProperties;
+import ru.clevertec.news.entity.dto.NewsResponse;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link NewsCache} of the JSON bodies of {@code GET /news/{id}} responses, rendered once and kept off-heap.
+ * Changed news are evicted rather than re-rendered, so a body is only ever produced by the regular
+ * controller path and served byte for byte. Entries live no longer than the "api-cache" TTL, and changes
+ * made on other nodes evict them through the invalidations of that cache. Invalidations sent by this node
+ * are ignored: its own writes already evict through {@link #put(Long, NewsResponse)} and {@link #evict(Long)}.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "news.cache.rendered", name = "enabled", havingValue = "true")
+public class RenderedNewsCache implements NewsCache {
+
+    /**
+     * Name of this cache in metrics.
+     */
+    public static final String CACHE_NAME = "news-json";
+
+    private final OffHeapByteCache<Long> bodies;
+    private final Duration ttl;
+    private final CacheMeters meters;
+    private final CacheNode node;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Constructor for RenderedNewsCache.
+     *
+     * @param properties      the cache settings holding the size bound and the TTL of "api-cache".
+     * @param invalidationBus the channel announcing changes made on other nodes.
+     * @param node            the identity of this node, whose own invalidations are ignored.
+     * @param meterRegistry   the registry of the cache meters.
+     */
+    public RenderedNewsCache(NewsCacheProperties properties, CacheInvalidationBus invalidationBus, CacheNode node,
+                             MeterRegistry meterRegistry) {
+        this.bodies = new OffHeapByteCache<>(properties.getRendered().getMaxSize().toBytes());
+        this.ttl = properties.ttlFor(SpringNewsCache.CACHE_NAME);
+        this.meters = new CacheMeters(CACHE_NAME, meterRegistry, bodies::size, bodies::evictions);
+        this.node = node;
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    /**
+     * Returns the rendered body of the news item.
+     *
+     * @param id the ID of the news item.
+     * @return a read-only view of the body, {@code null} on a miss.
+     */
+    public ByteBuffer get(Long id) {
+        ByteBuffer body = bodies.get(id);
+        if (body != null) {
+            meters.hit();
+        } else {
+            meters.miss();
+        }
+        return body;
+    }
+
+    /**
+     * Returns the version to pass to {@link #store(Long, byte[], long)} for a body rendered from now on.
+     *
+     * @return the current invalidation version.
+     */
+    public long version() {
+        return invalidations.get();
+    }
+
+    /**
+     * Stores a rendered body unless an invalidation arrived since its rendering started,
+     * which would otherwise let a render racing with an update pin the old body.
+     *
+     * @param id      the ID of the news item.
+     * @param body    the rendered body.
+     * @param version the version taken before rendering.
+     */
+    public void store(Long id, byte[] body, long version) {
+        meters.putTimer().record(() -> {
+            synchronized (invalidations) {
+                if (invalidations.get() == version) {
+                    bodies.put(id, body, System.currentTimeMillis() + ttl.toMillis());
+                }
+            }
+        });
+    }
+
+    @Override
+    public void put(Long id, NewsResponse news) {
+        evict(id);
+    }
+
+    @Override
+    public void evict(Long id) {
+        meters.explicitEviction();
+        synchronized (invalidations) {
+            invalidations.incrementAndGet();
+            bodies.remove(id);
+        }
+    }
+
+    public long usedBytes() {
+        return bodies.usedBytes();
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (node.isOrigin(invalidation) || !SpringNewsCache.CACHE_NAME.equals(invalidation.cacheName())) {
+            return;
+        }
+        if (invalidation.key() == null) {
+            synchronized (invalidations) {
+                invalidations.incrementAndGet();
+                bodies.clear();
+            }
+        } else {
+            evict(Long.valueOf(invalidation.key()));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package ru.clevertec.news.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * Per-key single-flight loader with lock striping for writers.
+ * Concurrent loads of the same key share one in-flight future, so a single database round trip
+ * feeds every caller waiting for that key, while loads of different keys never block each other.
+ * Writers serialize on the stripe of their key only and drop the in-flight load of that key,
+ * which keeps a stale read from being published over a fresh write.
+ *
+ * @param <K> the type of keys.
+ * @param <V> the type of loaded values.
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Lock[] stripes;
+
+    /**
+     * Constructor for SingleFlight.
+     *
+     * @param stripeCount the number of locks that writers are distributed over, rounded up to a power of two.
+     */
+    public SingleFlight(int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        stripes = new Lock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Loads the value for the key, joining the in-flight load of the same key if there is one.
+     * The publisher is invoked under the stripe lock of the key and only if no writer invalidated
+     * the load while it was running.
+     *
+     * @param key       the key to load.
+     * @param loader    the action performing the actual load.
+     * @param publisher the action storing the loaded value, e.g. in a cache.
+     * @return the loaded value.
+     * @throws Throwable the failure of the loader, rethrown to every waiting caller.
+     */
+    public V load(K key, Loader<V> loader, BiConsumer<K, V> publisher) throws Throwable {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, own);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        V value;
+        try {
+            value = loader.load();
+        } catch (Throwable e) {
+            inFlight.remove(key, own);
+            own.completeExceptionally(e);
+            throw e;
+        }
+
+        Lock lock = stripeFor(key);
+        lock.lock();
+        try {
+            if (inFlight.remove(key, own) && value != null) {
+                publisher.accept(key, value);
+            }
+        } finally {
+            lock.unlock();
+        }
+        own.complete(value);
+        return value;
+    }
+
+    /**
+     * Runs a write action while holding the stripe lock of the key, then drops any in-flight load of that key.
+     *
+     * @param key    the key being written.
+     * @param action the write action.
+     * @param <T>    the type of the action result.
+     * @return the result of the action.
+     * @throws Throwable the failure of the action.
+     */
+    public <T> T write(K key, Loader<T> action) throws Throwable {
+        Lock lock = stripeFor(key);
+        lock.lock();
+        try {
+            T result = action.load();
+            inFlight.remove(key);
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Tells whether a load of the key is currently running.
+     *
+     * @param key the key.
+     * @return {@code true} if the key is being loaded.
+     */
+    public boolean isInFlight(K key) {
+        return inFlight.containsKey(key);
+    }
+
+    /**
+     * Returns the number of loads currently in flight.
+     *
+     * @return the number of in-flight keys.
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Lock stripeFor(K key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return stripes[h & (stripes.length - 1)];
+    }
+
+    private V await(CompletableFuture<V> future) throws Throwable {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    /**
+     * Action that produces a value and may fail with any throwable, e.g. {@code joinPoint::proceed}.
+     *
+     * @param <T> the type of the produced value.
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws Throwable;
+    }
+}
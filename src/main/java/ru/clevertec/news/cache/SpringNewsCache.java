@@ -0,0 +1,43 @@
+package ru.clevertec.news.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import ru.clevertec.news.entity.dto.NewsResponse;
+
+/**
+ * {@link NewsCache} backed by the "api-cache" of the Spring cache manager used in the prod profile.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Component
+@Profile("prod")
+public class SpringNewsCache implements NewsCache {
+
+    /**
+     * Name of the cache holding news items by ID.
+     */
+    public static final String CACHE_NAME = "api-cache";
+
+    private final CacheManager cacheManager;
+
+    public SpringNewsCache(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public void put(Long id, NewsResponse news) {
+        cache().put(id, news);
+    }
+
+    @Override
+    public void evict(Long id) {
+        cache().evict(id);
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+}
@@ -0,0 +1,155 @@
+package ru.clevertec.news.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import ru.clevertec.cache.Cache;
+import ru.clevertec.cache.CacheFactory;
+import ru.clevertec.news.config.NewsCacheProperties;
+import ru.clevertec.news.datasource.ReplicaRouting;
+import ru.clevertec.news.entity.dto.NewsResponse;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link NewsCache} backed by the cachestarter cache used in the dev profile.
+ * Database calls are never made under a shared lock: concurrent reads of the same id share one load,
+ * writes serialize only with operations on the same id, and the cache itself is guarded
+ * just for the duration of a single get or put. Entries expire after the TTL of "api-cache"
+ * and hot entries are refreshed early in the background.
+ *
+ * <p>The starter cache reports neither its size nor what it evicts, so a shadow LRU map of the same
+ * capacity mirrors its keys to feed the {@link CacheMeters} of this cache.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Component
+@Profile("dev")
+public class StarterNewsCache implements NewsCache {
+
+    /**
+     * Name of this cache in settings and metrics, the same as the prod cache of news items.
+     */
+    public static final String CACHE_NAME = SpringNewsCache.CACHE_NAME;
+
+    private final Cache<Long, CachedValue<NewsResponse>> cache;
+    private final EarlyRefresh<Long, NewsResponse> earlyRefresh;
+    private final LruMap<Long, Boolean> residents;
+    private final CacheMeters meters;
+
+    /**
+     * Constructor for StarterNewsCache.
+     *
+     * @param cacheFactory          Factory for creating the cache.
+     * @param properties            the cache settings holding TTLs and the XFetch beta.
+     * @param cacheRefreshExecutor  the executor running background refreshes.
+     * @param meterRegistry         the registry of the cache meters.
+     * @param capacity              the capacity the starter cache is configured with.
+     */
+    @Autowired
+    public StarterNewsCache(CacheFactory<Long, CachedValue<NewsResponse>> cacheFactory,
+                            NewsCacheProperties properties,
+                            Executor cacheRefreshExecutor,
+                            MeterRegistry meterRegistry,
+                            @Value("${cache.capacity}") int capacity) {
+        this(cacheFactory.createCache(), properties, cacheRefreshExecutor, meterRegistry, capacity);
+    }
+
+    /**
+     * Constructor for StarterNewsCache over an already created starter cache, e.g. in benchmarks.
+     *
+     * @param cache                 the starter cache holding the entries.
+     * @param properties            the cache settings holding TTLs and the XFetch beta.
+     * @param cacheRefreshExecutor  the executor running background refreshes.
+     * @param meterRegistry         the registry of the cache meters.
+     * @param capacity              the capacity the starter cache is configured with.
+     */
+    StarterNewsCache(Cache<Long, CachedValue<NewsResponse>> cache,
+                     NewsCacheProperties properties,
+                     Executor cacheRefreshExecutor,
+                     MeterRegistry meterRegistry,
+                     int capacity) {
+        this.cache = cache;
+        earlyRefresh = new EarlyRefresh<>(CACHE_NAME, properties.ttlFor(CACHE_NAME),
+                properties.getEarlyRefreshBeta(), cacheRefreshExecutor, meterRegistry);
+        residents = new LruMap<>(capacity);
+        meters = new CacheMeters(CACHE_NAME, meterRegistry, residents::size, residents::evictions);
+    }
+
+    /**
+     * Returns the cached news item or loads it once for all concurrent callers asking for the same id.
+     *
+     * @param id     the ID of the news item.
+     * @param loader the action loading the news item from the database.
+     * @return the news item.
+     * @throws Throwable the failure of the loader.
+     */
+    public NewsResponse get(Long id, SingleFlight.Loader<NewsResponse> loader) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            CachedValue<NewsResponse> cached = cacheGet(id);
+            if (cached == null || cached.isExpired(System.currentTimeMillis())) {
+                meters.miss();
+            } else {
+                meters.hit();
+            }
+            return earlyRefresh.get(id, cached, () -> meters.load(() -> ReplicaRouting.fillCache(loader::load)),
+                    this::cachePut);
+        } finally {
+            meters.getTimer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void put(Long id, NewsResponse news) {
+        meters.putTimer().record(() -> write(id, () -> {
+            cacheRemove(id);
+            cachePut(id, earlyRefresh.wrap(news));
+            return null;
+        }));
+    }
+
+    @Override
+    public void evict(Long id) {
+        meters.explicitEviction();
+        meters.evictTimer().record(() -> write(id, () -> {
+            cacheRemove(id);
+            return null;
+        }));
+    }
+
+    private void write(Long id, SingleFlight.Loader<Void> action) {
+        try {
+            earlyRefresh.write(id, action);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private CachedValue<NewsResponse> cacheGet(Long id) {
+        synchronized (cache) {
+            residents.get(id);
+            return cache.get(id);
+        }
+    }
+
+    private void cachePut(Long id, CachedValue<NewsResponse> entry) {
+        synchronized (cache) {
+            residents.put(id, Boolean.TRUE);
+            cache.put(id, entry);
+        }
+    }
+
+    private void cacheRemove(Long id) {
+        synchronized (cache) {
+            residents.remove(id);
+            cache.removeByKey(id);
+        }
+    }
+}
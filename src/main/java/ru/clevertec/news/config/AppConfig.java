@@ -1,11 +1,13 @@
 package ru.clevertec.news.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import ru.clevertec.exceptionhandlerstarter.handler.NewsManagementSystemExceptionHandler;
 
 @Configuration
+@EnableConfigurationProperties(NewsListingProperties.class)
 public class AppConfig {
 
     @Bean
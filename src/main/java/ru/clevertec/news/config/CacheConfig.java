@@ -0,0 +1,27 @@
+package ru.clevertec.news.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableConfigurationProperties(NewsCacheProperties.class)
+public class CacheConfig {
+
+    private static final int REFRESH_QUEUE_CAPACITY = 1000;
+
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor(NewsCacheProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getRefreshThreads());
+        executor.setMaxPoolSize(properties.getRefreshThreads());
+        executor.setQueueCapacity(REFRESH_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,45 @@
+package ru.clevertec.news.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.CompositeCacheManager;
+import org.springframework.cache.support.NoOpCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import ru.clevertec.news.cache.MeteredCacheManager;
+import ru.clevertec.news.cache.NearCache;
+
+import java.util.List;
+
+/**
+ * Spring caching of the dev profile, which has no Redis. Listing pages are kept in a bounded in-process
+ * {@link NearCache} with the TTL of "news-pages"; every other cache is a no-op, since the news items
+ * are cached by the cachestarter through {@link ru.clevertec.news.cache.StarterNewsCache}.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Configuration
+@EnableCaching
+@Profile("dev")
+public class DevCacheConfig {
+
+    private static final String PAGES_CACHE = "news-pages";
+
+    @Bean
+    public CacheManager cacheManager(NewsCacheProperties properties, MeterRegistry meterRegistry) {
+        NearCache pages = new NearCache(new NoOpCache(PAGES_CACHE), properties.getNear().getCapacity(),
+                properties.ttlFor(PAGES_CACHE), key -> {
+        });
+        SimpleCacheManager pagesCacheManager = new SimpleCacheManager();
+        pagesCacheManager.setCaches(List.of(pages));
+        pagesCacheManager.initializeCaches();
+        CompositeCacheManager cacheManager = new CompositeCacheManager(new MeteredCacheManager(pagesCacheManager,
+                meterRegistry, name -> pages.localSize(), name -> pages.localEvictions()));
+        cacheManager.setFallbackToNoOpCache(true);
+        return cacheManager;
+    }
+}
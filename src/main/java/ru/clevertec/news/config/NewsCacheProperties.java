@@ -0,0 +1,133 @@
+package ru.clevertec.news.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings of the news caches, bound from the {@code news.cache} prefix.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "news.cache")
+public class NewsCacheProperties {
+
+    /**
+     * Time to live of entries in caches without an entry in {@link #ttl}.
+     */
+    private Duration defaultTtl = Duration.ofMinutes(10);
+
+    /**
+     * Time to live per cache name, e.g. {@code news.cache.ttl[api-cache]=10m}.
+     */
+    private Map<String, Duration> ttl = new HashMap<>();
+
+    /**
+     * XFetch beta: values above 1 favour earlier refreshes, values below 1 later ones, 0 disables them.
+     */
+    private double earlyRefreshBeta = 1.0;
+
+    /**
+     * Number of threads refreshing entries in the background.
+     */
+    private int refreshThreads = 2;
+
+    /**
+     * Serializer of Redis cache values, see {@link ru.clevertec.news.cache.CacheValueSerializers}.
+     */
+    private String serializer = "compact";
+
+    private Near near = new Near();
+
+    private WarmUp warmUp = new WarmUp();
+
+    private Rendered rendered = new Rendered();
+
+    private Search search = new Search();
+
+    /**
+     * Returns the time to live of a cache.
+     *
+     * @param cacheName the cache name.
+     * @return the configured time to live or the default one.
+     */
+    public Duration ttlFor(String cacheName) {
+        return ttl.getOrDefault(cacheName, defaultTtl);
+    }
+
+    /**
+     * Settings of the in-process tier in front of Redis.
+     */
+    @Data
+    public static class Near {
+
+        private int capacity = 1000;
+
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Settings of loading the caches on startup, before the instance registers with discovery.
+     */
+    @Data
+    public static class WarmUp {
+
+        private boolean enabled = true;
+
+        /**
+         * Number of the most recent live news loaded by ID.
+         */
+        private int recentNews = 200;
+
+        /**
+         * Number of the first pages of the live listing loaded.
+         */
+        private int pages = 5;
+
+        private int pageSize = 15;
+
+        /**
+         * Number of news loaded by one task.
+         */
+        private int batchSize = 25;
+
+        private int parallelism = 4;
+
+        /**
+         * Time after which the warm-up gives up on what is not loaded yet.
+         */
+        private Duration budget = Duration.ofSeconds(20);
+    }
+
+    /**
+     * Settings of the off-heap cache of rendered {@code GET /news/{id}} bodies.
+     */
+    @Data
+    public static class Rendered {
+
+        private boolean enabled = false;
+
+        /**
+         * Maximum direct memory taken by the bodies.
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(64);
+    }
+
+    /**
+     * Settings of the in-process cache of full-text search pages.
+     */
+    @Data
+    public static class Search {
+
+        /**
+         * Maximum number of pages kept, across all generations of the index.
+         */
+        private int capacity = 1000;
+    }
+}
@@ -0,0 +1,48 @@
+package ru.clevertec.news.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the news search indexing, bound from the {@code news.search.indexing} prefix.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "news.search.indexing")
+public class NewsIndexingProperties {
+
+    /**
+     * Whether changed news are indexed in batches by a background worker instead of by Hibernate Search
+     * while the changing transaction completes.
+     */
+    private boolean async = false;
+
+    /**
+     * Number of distinct news IDs waiting to be indexed above which writers wait for the worker.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Maximum number of news indexed in one transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Time the worker waits for a batch to fill before indexing what it has.
+     */
+    private Duration batchDelay = Duration.ofMillis(200);
+
+    /**
+     * Age of the oldest news waiting to be indexed above which the indexing reports itself out of service.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * Time the shutdown waits for the waiting news to be indexed.
+     */
+    private Duration drainTimeout = Duration.ofSeconds(30);
+}
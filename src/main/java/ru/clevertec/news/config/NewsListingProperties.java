@@ -0,0 +1,46 @@
+package ru.clevertec.news.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the paginated news listings, bound from the {@code news.listing} prefix.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "news.listing")
+public class NewsListingProperties {
+
+    /**
+     * Source of the number of pages reported with every listing page.
+     */
+    private CountMode countMode = CountMode.COUNTER;
+
+    /**
+     * Ways of learning how many news a listing has.
+     */
+    public enum CountMode {
+
+        /**
+         * A {@code COUNT(*)} over the news table with every page, as plain Spring Data paging does.
+         */
+        EXACT,
+
+        /**
+         * The counters of live and archived news maintained by the writes themselves.
+         */
+        COUNTER,
+
+        /**
+         * The row estimate of the Postgres planner, cheap but only as accurate as the table statistics.
+         */
+        ESTIMATE,
+
+        /**
+         * No count at all: the page only tells whether a next page exists.
+         */
+        NONE
+    }
+}
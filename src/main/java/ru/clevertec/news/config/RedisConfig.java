@@ -1,9 +1,11 @@
 package ru.clevertec.news.config;
 
-import org.springframework.beans.factory.annotation.Value;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
@@ -11,8 +13,24 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import ru.clevertec.news.cache.CacheNode;
+import ru.clevertec.news.cache.CacheValueSerializers;
+import ru.clevertec.news.cache.EarlyRefreshCacheManager;
+import ru.clevertec.news.cache.ListingGenerations;
+import ru.clevertec.news.cache.MeteredCacheManager;
+import ru.clevertec.news.cache.NearCache;
+import ru.clevertec.news.cache.NearCacheManager;
+import ru.clevertec.news.cache.RedisCacheInvalidationBus;
+import ru.clevertec.news.cache.RedisListingGenerations;
 
-import java.util.Set;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 @Configuration
 @EnableCaching
@@ -26,12 +44,64 @@ public class RedisConfig {
 //    @Value("${spring.data.redis.port}")
 //    private int port;
 
+    private static final List<String> CACHE_NAMES = List.of("api-cache", "api-archive-cache", "news-pages");
+
+    @Bean
+    public RedisSerializer<Object> cacheValueSerializer(NewsCacheProperties properties) {
+        return CacheValueSerializers.forName(properties.getSerializer());
+    }
+
+    /**
+     * Redis keeps every entry for twice its logical TTL, so that an entry past expiry
+     * is still there to be refreshed from rather than reappearing as a miss on every node at once.
+     */
+    @Bean
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+                                               RedisSerializer<Object> cacheValueSerializer,
+                                               NewsCacheProperties properties) {
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(cacheValueSerializer))
+                .entryTtl(redisTtl(properties.getDefaultTtl()));
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaults);
+        CACHE_NAMES.forEach(name -> builder.withCacheConfiguration(name, defaults.entryTtl(redisTtl(properties.ttlFor(name)))));
+        return builder.build();
+    }
+
+    @Bean
+    public ListingGenerations listingGenerations(RedisConnectionFactory connectionFactory) {
+        return new RedisListingGenerations(new StringRedisTemplate(connectionFactory));
+    }
+
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        return RedisCacheManager.builder(connectionFactory)
-                .initialCacheNames(Set.of("api-cache"))
-                .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig())
-                .build();
+    @Primary
+    public CacheManager cacheManager(RedisCacheManager redisCacheManager,
+                                     RedisCacheInvalidationBus invalidationBus,
+                                     CacheNode cacheNode,
+                                     NewsCacheProperties properties,
+                                     Executor cacheRefreshExecutor,
+                                     MeterRegistry meterRegistry) {
+        NearCacheManager nearCacheManager = new NearCacheManager(redisCacheManager, invalidationBus,
+                properties.getNear().getCapacity(), properties.getNear().getTtl(), cacheNode.id());
+        CacheManager earlyRefreshCacheManager =
+                new EarlyRefreshCacheManager(nearCacheManager, properties, cacheRefreshExecutor, meterRegistry);
+        return new MeteredCacheManager(earlyRefreshCacheManager, meterRegistry,
+                name -> ((NearCache) nearCacheManager.getCache(name)).localSize(),
+                name -> ((NearCache) nearCacheManager.getCache(name)).localEvictions());
+    }
+
+    @Bean
+    public RedisCacheInvalidationBus cacheInvalidationBus(RedisConnectionFactory connectionFactory) {
+        return new RedisCacheInvalidationBus(new StringRedisTemplate(connectionFactory));
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           RedisCacheInvalidationBus invalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidationBus, new ChannelTopic(RedisCacheInvalidationBus.CHANNEL));
+        return container;
     }
 
     @Bean
@@ -45,4 +115,8 @@ public class RedisConfig {
     public RedisConnectionFactory redisConnectionFactory() {
         return new LettuceConnectionFactory("redis", 6379);
     }
-}
\ No newline at end of file
+
+    private static Duration redisTtl(Duration ttl) {
+        return ttl.multipliedBy(2);
+    }
+}
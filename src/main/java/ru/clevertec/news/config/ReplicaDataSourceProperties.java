@@ -0,0 +1,39 @@
+package ru.clevertec.news.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings of the read replicas, bound from the {@code news.datasource.replica} prefix.
+ * Routing is enabled as soon as one URL is set; the driver is the one of the primary data source.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "news.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    /**
+     * JDBC URLs of the replicas, e.g. {@code jdbc:postgresql://localhost:5433/nms_news_service}.
+     */
+    private List<String> urls = new ArrayList<>();
+
+    private String username;
+
+    private String password;
+
+    /**
+     * Maximum number of connections in the pool of each replica.
+     */
+    private int maximumPoolSize = 10;
+
+    /**
+     * Time after a write during which loads filling the caches read from the primary, above the usual replica lag.
+     */
+    private Duration replicaLagWindow = Duration.ofSeconds(5);
+}
@@ -0,0 +1,24 @@
+package ru.clevertec.news.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(NewsIndexingProperties.class)
+public class SearchIndexingConfig {
+
+    private static final String INDEXING_LISTENERS_ENABLED = "hibernate.search.indexing.listeners.enabled";
+
+    /**
+     * Stops Hibernate Search from indexing entity changes itself when the
+     * {@link ru.clevertec.news.search.NewsIndexingQueue} does it in batches.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "news.search.indexing", name = "async", havingValue = "true")
+    public HibernatePropertiesCustomizer disableIndexingListeners() {
+        return properties -> properties.put(INDEXING_LISTENERS_ENABLED, false);
+    }
+}
@@ -7,6 +7,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,13 +21,20 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.clevertec.exceptionhandlerstarter.entity.IncorrectData;
 import ru.clevertec.news.entity.dto.NewsRequest;
 import ru.clevertec.news.entity.dto.NewsResponse;
+import ru.clevertec.news.service.NewsExporter;
+import ru.clevertec.news.util.BatchItemResult;
+import ru.clevertec.news.util.CursorPage;
 import ru.clevertec.news.util.PaginationResponse;
+import ru.clevertec.news.util.SearchResponse;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Tag(name = "News Controller", description = "Operations related to news")
@@ -125,6 +138,78 @@ public interface NewsController {
             @RequestParam(defaultValue = "15", name = "pageSize") int pageSize,
             @RequestParam(defaultValue = "1", name = "numberPage") int numberPage);
 
+    @Operation(
+            summary = "Get news by cursor",
+            tags = {"News"},
+            description = "Returns a page of news ordered from newest to oldest and the cursor of the next page.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200",
+                            description = "Successfully retrieved news list",
+                            content = @Content(schema = @Schema(implementation = CursorPage.class))),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Cursor or limit is incorrect",
+                            content = @Content(schema = @Schema(implementation = IncorrectData.class))),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "General application error",
+                            content = @Content(schema = @Schema(implementation = IncorrectData.class)))
+            })
+    @GetMapping("/cursor")
+    ResponseEntity<CursorPage<NewsResponse>> getAllByCursor(
+            @RequestParam(required = false, name = "cursor") String cursor,
+            @RequestParam(defaultValue = "15", name = "limit") @Min(1) @Max(100) int limit);
+
+    @Operation(
+            summary = "Get archived news by cursor",
+            tags = {"News"},
+            description = "Returns a page of archived news ordered from newest to oldest and the cursor of the next page.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200",
+                            description = "Successfully retrieved archived news list",
+                            content = @Content(schema = @Schema(implementation = CursorPage.class))),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Cursor or limit is incorrect",
+                            content = @Content(schema = @Schema(implementation = IncorrectData.class))),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "General application error",
+                            content = @Content(schema = @Schema(implementation = IncorrectData.class)))
+            })
+    @GetMapping("/archive/cursor")
+    ResponseEntity<CursorPage<NewsResponse>> getAllFromArchiveByCursor(
+            @RequestParam(required = false, name = "cursor") String cursor,
+            @RequestParam(defaultValue = "15", name = "limit") @Min(1) @Max(100) int limit);
+
+
+    @Operation(
+            summary = "Export news as NDJSON",
+            tags = {"News"},
+            description = "Streams the news in the scope, optionally limited to a time range, one JSON object per line. "
+                    + "The body is gzip-compressed when the client accepts it.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "News export streamed"),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Unknown scope or malformed time range",
+                            content = @Content(schema = @Schema(implementation = IncorrectData.class))),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "General application error",
+                            content = @Content(schema = @Schema(implementation = IncorrectData.class)))
+            })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "scope", defaultValue = "LIVE") NewsExporter.Scope scope,
+            @RequestParam(name = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding);
 
     @Operation(
             summary = "Create new news",
@@ -145,6 +230,27 @@ public interface NewsController {
     @PostMapping
     ResponseEntity<NewsResponse> create(@Valid @RequestBody NewsRequest newsDto);
 
+    @Operation(
+            summary = "Create a batch of news",
+            tags = {"News"},
+            description = "Batch news creation. Returns the outcome of every item in the order of the request: "
+                    + "the created resource or the reason the item was rejected.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "Batch processed"),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Malformed request body or too many items",
+                            content = @Content(schema = @Schema(implementation = IncorrectData.class))),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "General application error",
+                            content = @Content(schema = @Schema(implementation = IncorrectData.class)))
+            })
+    @PostMapping("/batch")
+    ResponseEntity<List<BatchItemResult<NewsResponse>>> createAll(
+            @RequestBody @Size(max = 1000) List<NewsRequest> newsDtos);
+
     @Operation(
             summary = "Update news by ID",
             tags = {"News"},
@@ -191,6 +297,48 @@ public interface NewsController {
     @PatchMapping("/{id}")
     ResponseEntity<Void> moveToArchive(@PathVariable("id")Long id);
 
+    @Operation(
+            summary = "Move a batch of news to archive by ID",
+            tags = {"News"},
+            description = "Bulk archiving. Returns the IDs actually moved to archive; "
+                    + "missing and already archived IDs are left out.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "News moved to archive"),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Malformed request body or too many IDs",
+                            content = @Content(schema = @Schema(implementation = IncorrectData.class))),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "General application error",
+                            content = @Content(schema = @Schema(implementation = IncorrectData.class)))
+            })
+    @PatchMapping("/batch")
+    ResponseEntity<List<Long>> moveAllToArchive(@RequestBody @Size(max = 100_000) List<Long> ids);
+
+    @Operation(
+            summary = "Move news published in a time range to archive",
+            tags = {"News"},
+            description = "Bulk archiving of the live news published from the start of the range, inclusive, "
+                    + "to its end, exclusive. Returns the IDs moved to archive.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "News moved to archive"),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Malformed or empty time range",
+                            content = @Content(schema = @Schema(implementation = IncorrectData.class))),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "General application error",
+                            content = @Content(schema = @Schema(implementation = IncorrectData.class)))
+            })
+    @PatchMapping("/batch/range")
+    ResponseEntity<List<Long>> moveToArchiveBetween(
+            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to);
+
     @Operation(
             summary = "Search for news",
             tags = {"News"},
@@ -199,7 +347,7 @@ public interface NewsController {
             value = {
                     @ApiResponse(responseCode = "200",
                             description = "Successfully retrieved search results",
-                            content = @Content(schema = @Schema(implementation = PaginationResponse.class))),
+                            content = @Content(schema = @Schema(implementation = SearchResponse.class))),
                     @ApiResponse(
                             responseCode = "404",
                             description = "Comment by ID not found",
@@ -214,8 +362,32 @@ public interface NewsController {
                             content = @Content(schema = @Schema(implementation = IncorrectData.class)))
             })
     @GetMapping("/search")
-    ResponseEntity<List<NewsResponse>> search(@RequestParam(name = "search") String searchValue,
-                                                 @RequestParam(name = "offset") Integer offset,
-                                                 @RequestParam(name = "limit") Integer limit);
+    ResponseEntity<SearchResponse<NewsResponse>> search(@RequestParam(name = "search") String searchValue,
+                                                        @RequestParam(name = "offset") Integer offset,
+                                                        @RequestParam(name = "limit") Integer limit);
+
+    @Operation(
+            summary = "Search for news by cursor",
+            tags = {"News"},
+            description = "Returns a page of found news ordered by relevance and the cursor of the next page.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200",
+                            description = "Successfully retrieved search results",
+                            content = @Content(schema = @Schema(implementation = CursorPage.class))),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Cursor or limit is incorrect",
+                            content = @Content(schema = @Schema(implementation = IncorrectData.class))),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "General application error",
+                            content = @Content(schema = @Schema(implementation = IncorrectData.class)))
+            })
+    @GetMapping("/search/cursor")
+    ResponseEntity<CursorPage<NewsResponse>> searchByCursor(
+            @RequestParam(name = "search") String searchValue,
+            @RequestParam(required = false, name = "cursor") String cursor,
+            @RequestParam(defaultValue = "15", name = "limit") @Min(1) @Max(100) int limit);
 
 }
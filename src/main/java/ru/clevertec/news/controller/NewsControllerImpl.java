@@ -1,21 +1,34 @@
 package ru.clevertec.news.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.clevertec.news.entity.dto.NewsRequest;
 import ru.clevertec.news.entity.dto.NewsResponse;
+import ru.clevertec.news.service.NewsExporter;
 import ru.clevertec.news.service.NewsService;
+import ru.clevertec.news.util.BatchItemResult;
+import ru.clevertec.news.util.CursorPage;
 import ru.clevertec.news.util.PaginationResponse;
+import ru.clevertec.news.util.SearchResponse;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequiredArgsConstructor
 public class NewsControllerImpl implements NewsController {
 
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
     private final NewsService service;
+    private final NewsExporter exporter;
 
     @Override
     public ResponseEntity<NewsResponse> getById(Long id) {
@@ -45,6 +58,42 @@ public class NewsControllerImpl implements NewsController {
                 .body(service.getAllFromArchive(pageSize, numberPage));
     }
 
+    @Override
+    public ResponseEntity<CursorPage<NewsResponse>> getAllByCursor(String cursor, int limit) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(service.getAllByCursor(cursor, limit));
+    }
+
+    @Override
+    public ResponseEntity<CursorPage<NewsResponse>> getAllFromArchiveByCursor(String cursor, int limit) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(service.getAllFromArchiveByCursor(cursor, limit));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(NewsExporter.Scope scope, LocalDateTime from, LocalDateTime to,
+                                                        String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                exporter.export(scope, from, to, gzipOut);
+                gzipOut.finish();
+            } else {
+                exporter.export(scope, from, to, out);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_NDJSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     @Override
     public ResponseEntity<NewsResponse> create(NewsRequest newsDto) {
         return ResponseEntity
@@ -52,6 +101,13 @@ public class NewsControllerImpl implements NewsController {
                 .body(service.create(newsDto));
     }
 
+    @Override
+    public ResponseEntity<List<BatchItemResult<NewsResponse>>> createAll(List<NewsRequest> newsDtos) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(service.createAll(newsDtos));
+    }
+
     @Override
     public ResponseEntity<NewsResponse> update(Long id, NewsRequest newsDto) {
         return ResponseEntity
@@ -68,9 +124,30 @@ public class NewsControllerImpl implements NewsController {
     }
 
     @Override
-    public ResponseEntity<List<NewsResponse>> search(String searchValue, Integer offset, Integer limit) {
+    public ResponseEntity<List<Long>> moveAllToArchive(List<Long> ids) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(service.archiveAll(ids));
+    }
+
+    @Override
+    public ResponseEntity<List<Long>> moveToArchiveBetween(LocalDateTime from, LocalDateTime to) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(service.archiveBetween(from, to));
+    }
+
+    @Override
+    public ResponseEntity<SearchResponse<NewsResponse>> search(String searchValue, Integer offset, Integer limit) {
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(service.search(searchValue,offset,limit));
     }
+
+    @Override
+    public ResponseEntity<CursorPage<NewsResponse>> searchByCursor(String searchValue, String cursor, int limit) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(service.searchByCursor(searchValue, cursor, limit));
+    }
 }
@@ -0,0 +1,155 @@
+package ru.clevertec.news.datasource;
+
+import java.time.Duration;
+
+/**
+ * Read-after-write state of the {@link ReplicaRoutingDataSource}.
+ *
+ * <p>Once a thread has used the primary for a read-write transaction, its later read-only transactions
+ * go to the primary too, so a request never reads past its own write from a lagging replica.
+ * Inside a request the pin lasts until the web filter ends the request; on any other thread, such as
+ * a background worker, it ends with the read-write transaction.
+ *
+ * <p>Loads filling a shared cache are routed to the primary for a short window after any write seen by
+ * this node, whether committed here or announced by another node, so a replica still behind the write
+ * cannot put the old state into the cache for a whole TTL.
+ *
+ * <p>The route of the last connection taken by a thread is remembered, so that state confirmed by a read
+ * is only trusted when the read saw the primary.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public final class ReplicaRouting {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> IN_REQUEST = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> FILLING_CACHE = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> READ_FROM_REPLICA = new ThreadLocal<>();
+
+    private static volatile long lastWriteNanos = System.nanoTime() - Long.MAX_VALUE / 2;
+
+    private ReplicaRouting() {
+    }
+
+    /**
+     * Starts a request on the current thread: its reads go to the replicas until it writes.
+     */
+    public static void beginRequest() {
+        PINNED_TO_PRIMARY.remove();
+        READ_FROM_REPLICA.remove();
+        IN_REQUEST.set(Boolean.TRUE);
+    }
+
+    /**
+     * Ends the request of the current thread, dropping its pin.
+     */
+    public static void endRequest() {
+        PINNED_TO_PRIMARY.remove();
+        READ_FROM_REPLICA.remove();
+        IN_REQUEST.remove();
+    }
+
+    /**
+     * Sends every following read of the current thread to the primary.
+     */
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    /**
+     * Tells whether the reads of the current thread must go to the primary.
+     *
+     * @return {@code true} if the thread has written since the pin was last cleared.
+     */
+    public static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get() != null;
+    }
+
+    /**
+     * Lets the reads of the current thread go to the replicas again.
+     */
+    public static void clear() {
+        PINNED_TO_PRIMARY.remove();
+    }
+
+    /**
+     * Ends the pin of a read-write transaction that just completed, unless a request holds it until its end.
+     */
+    static void transactionCompleted() {
+        if (IN_REQUEST.get() == null) {
+            PINNED_TO_PRIMARY.remove();
+        }
+    }
+
+    /**
+     * Remembers where the last connection of the current thread was routed.
+     *
+     * @param replica {@code true} if it was routed to a replica.
+     */
+    static void routed(boolean replica) {
+        if (replica) {
+            READ_FROM_REPLICA.set(Boolean.TRUE);
+        } else {
+            READ_FROM_REPLICA.remove();
+        }
+    }
+
+    /**
+     * Tells whether the last connection of the current thread was routed to a replica,
+     * which may still be behind writes made on any node.
+     *
+     * @return {@code true} if the last read of the thread may have been served by a replica.
+     */
+    public static boolean isLastReadFromReplica() {
+        return READ_FROM_REPLICA.get() != null;
+    }
+
+    /**
+     * Records that news were written, here or on another node.
+     */
+    public static void recordWrite() {
+        lastWriteNanos = System.nanoTime();
+    }
+
+    /**
+     * Tells whether the current thread fills a cache within the window after the last recorded write.
+     *
+     * @param window the time a replica may take to catch up with a write.
+     * @return {@code true} if the reads of the current thread must go to the primary.
+     */
+    static boolean isFillingCacheAfterWrite(Duration window) {
+        return FILLING_CACHE.get() != null && System.nanoTime() - lastWriteNanos < window.toNanos();
+    }
+
+    /**
+     * Runs a load whose result is stored in a shared cache.
+     *
+     * @param load the load.
+     * @param <T>  the type of the loaded value.
+     * @return the loaded value.
+     * @throws Throwable the failure of the load.
+     */
+    public static <T> T fillCache(CacheLoad<T> load) throws Throwable {
+        if (FILLING_CACHE.get() != null) {
+            return load.load();
+        }
+        FILLING_CACHE.set(Boolean.TRUE);
+        try {
+            return load.load();
+        } finally {
+            FILLING_CACHE.remove();
+        }
+    }
+
+    /**
+     * A load filling a cache.
+     *
+     * @param <T> the type of the loaded value.
+     */
+    @FunctionalInterface
+    public interface CacheLoad<T> {
+
+        T load() throws Throwable;
+    }
+}
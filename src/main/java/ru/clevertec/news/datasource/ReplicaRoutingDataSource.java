@@ -0,0 +1,108 @@
+package ru.clevertec.news.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Data source sending read-only transactions to the replicas, round robin, and everything else to the primary.
+ *
+ * <p>The route is decided when a connection is taken, so this data source must be wrapped
+ * in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction managers
+ * take the connection before they publish the read-only flag, the proxy defers it to the first statement.
+ * Work outside a transaction, such as migrations, always runs on the primary, and so do the read-only
+ * transactions pinned by {@link ReplicaRouting}.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica-";
+
+    private final List<DataSource> replicas;
+    private final Duration replicaLagWindow;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Constructor for ReplicaRoutingDataSource.
+     *
+     * @param primary          the data source taking the writes.
+     * @param replicas         the data sources taking the read-only transactions, at least one,
+     *                         closed with this one.
+     * @param replicaLagWindow the time after a write during which cache fills still read from the primary.
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration replicaLagWindow) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica is required");
+        }
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(REPLICA + i, replicas.get(i));
+        }
+        this.replicas = List.copyOf(replicas);
+        this.replicaLagWindow = replicaLagWindow;
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean replica = routesToReplica();
+        ReplicaRouting.routed(replica);
+        return replica ? REPLICA + Math.floorMod(next.getAndIncrement(), replicas.size()) : PRIMARY;
+    }
+
+    private boolean routesToReplica() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return false;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pinUntilCompletion();
+            return false;
+        }
+        return !ReplicaRouting.isPinnedToPrimary() && !ReplicaRouting.isFillingCacheAfterWrite(replicaLagWindow);
+    }
+
+    /**
+     * Pins the thread to the primary and, once the transaction completes, records a committed write
+     * and ends the pin of a thread serving no request.
+     */
+    private void pinUntilCompletion() {
+        ReplicaRouting.pinToPrimary();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    ReplicaRouting.recordWrite();
+                }
+                ReplicaRouting.transactionCompleted();
+            }
+        });
+    }
+
+    /**
+     * Closes the replica pools, which are owned by this data source; the primary is left to its owner.
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
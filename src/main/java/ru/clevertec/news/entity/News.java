@@ -7,14 +7,19 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.PartitionKey;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexingDependency;
@@ -31,18 +36,21 @@ import java.time.LocalDateTime;
 public class News {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GenericField(name = "idSort", sortable = Sortable.YES)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "news_id_seq")
+    @SequenceGenerator(name = "news_id_seq", sequenceName = "news_id_seq", allocationSize = 50)
     private Long id;
 
     @CreationTimestamp
+    @GenericField(projectable = Projectable.YES)
     @Column(nullable = false, updatable = false)
     private LocalDateTime time;
 
-    @FullTextField(analyzer = "english")
+    @FullTextField(analyzer = "english", projectable = Projectable.YES)
     @Column(nullable = false, length = 50)
     private String title;
 
-    @FullTextField(analyzer = "english")
+    @FullTextField(analyzer = "english", projectable = Projectable.YES)
     @Column(nullable = false, length = 2000)
     private String text;
 
@@ -52,6 +60,8 @@ public class News {
     @IndexingDependency(reindexOnUpdate = ReindexOnUpdate.SHALLOW)
     private User user;
 
+    @PartitionKey
+    @GenericField
     @Column(name = "is_archive",nullable = false)
     private boolean isArchived;
 }
@@ -0,0 +1,30 @@
+package ru.clevertec.news.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of news in one state, live or archived, kept up to date by the writes that change it.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "news_counter")
+public class NewsCounter {
+
+    @Id
+    @Column(name = "is_archive")
+    private Boolean archived;
+
+    @Column(name = "row_count", nullable = false)
+    private long rowCount;
+}
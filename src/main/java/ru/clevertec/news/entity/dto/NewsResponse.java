@@ -5,6 +5,7 @@ import ru.clevertec.news.entity.User;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 public record NewsResponse(
 
@@ -18,4 +19,12 @@ public record NewsResponse(
         String text,
 
         User user)  implements Serializable {
+
+    /**
+     * Constructor for the JPQL projections, which select the user columns instead of the user entity.
+     */
+    public NewsResponse(Long id, LocalDateTime time, String title, String text,
+                        Long userId, UUID userUuid, String userName) {
+        this(id, time, title, text, new User(userId, userUuid, userName));
+    }
 }
@@ -0,0 +1,14 @@
+package ru.clevertec.news.event;
+
+import java.util.List;
+
+/**
+ * Application event published inside the transaction that archived a chunk of news with one statement.
+ * Like {@link NewsChangedEvent}, listeners apply it after the transaction commits, once for the whole chunk.
+ *
+ * @param ids the IDs of the news that were live and are now archived.
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public record NewsArchivedBatchEvent(List<Long> ids) {
+}
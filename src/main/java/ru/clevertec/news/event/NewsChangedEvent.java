@@ -0,0 +1,36 @@
+package ru.clevertec.news.event;
+
+import ru.clevertec.news.entity.dto.NewsResponse;
+
+/**
+ * Application event published inside the transaction that changed a news item.
+ * Listeners react to it after the transaction commits, so rolled back changes leave no trace;
+ * only the existence index also listens inside the transaction, to stop trusting the changed ID until then.
+ *
+ * @param type the kind of change.
+ * @param id   the ID of the changed news item.
+ * @param news the state of the news item after the change, {@code null} when it was archived.
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public record NewsChangedEvent(ChangeType type, Long id, NewsResponse news) {
+
+    public static NewsChangedEvent created(NewsResponse news) {
+        return new NewsChangedEvent(ChangeType.CREATED, news.id(), news);
+    }
+
+    public static NewsChangedEvent updated(NewsResponse news) {
+        return new NewsChangedEvent(ChangeType.UPDATED, news.id(), news);
+    }
+
+    public static NewsChangedEvent archived(Long id) {
+        return new NewsChangedEvent(ChangeType.ARCHIVED, id, null);
+    }
+
+    /**
+     * Kinds of changes of a news item.
+     */
+    public enum ChangeType {
+        CREATED, UPDATED, ARCHIVED
+    }
+}
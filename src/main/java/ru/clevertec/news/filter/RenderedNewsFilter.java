@@ -0,0 +1,83 @@
+package ru.clevertec.news.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import ru.clevertec.news.cache.RenderedNewsCache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves {@code GET /news/{id}} from the {@link RenderedNewsCache}: a hit is written from the off-heap buffer
+ * straight to the servlet output stream without reaching the controller or Jackson, a miss goes
+ * through the regular path and its successful JSON body is cached on the way out.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "news.cache.rendered", name = "enabled", havingValue = "true")
+public class RenderedNewsFilter extends OncePerRequestFilter {
+
+    private static final Pattern NEWS_BY_ID = Pattern.compile("^/news/(\\d{1,18})$");
+
+    private final RenderedNewsCache renderedNewsCache;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) || newsId(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Long id = newsId(request);
+        ByteBuffer body = renderedNewsCache.get(id);
+        if (body != null) {
+            write(response, body);
+            return;
+        }
+
+        long version = renderedNewsCache.version();
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+        if (responseWrapper.getStatus() == HttpServletResponse.SC_OK && isJson(responseWrapper.getContentType())) {
+            renderedNewsCache.store(id, responseWrapper.getContentAsByteArray(), version);
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private static void write(HttpServletResponse response, ByteBuffer body) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.remaining());
+        WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+        while (body.hasRemaining()) {
+            channel.write(body);
+        }
+    }
+
+    private static boolean isJson(String contentType) {
+        return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    private static Long newsId(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Matcher matcher = NEWS_BY_ID.matcher(path);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+}
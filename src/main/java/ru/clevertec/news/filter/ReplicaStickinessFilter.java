@@ -0,0 +1,38 @@
+package ru.clevertec.news.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import ru.clevertec.news.datasource.ReplicaRouting;
+
+import java.io.IOException;
+
+/**
+ * Scopes the read-after-write stickiness of {@link ReplicaRouting} to one request:
+ * the reads following a write of the request go to the primary, the next request starts on the replicas.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "news.datasource.replica", name = "urls[0]")
+public class ReplicaStickinessFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ReplicaRouting.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRouting.endRequest();
+        }
+    }
+}
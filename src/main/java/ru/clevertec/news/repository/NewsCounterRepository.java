@@ -0,0 +1,30 @@
+package ru.clevertec.news.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ru.clevertec.news.entity.NewsCounter;
+
+/**
+ * Repository interface for NewsCounter entity.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Repository
+public interface NewsCounterRepository extends JpaRepository<NewsCounter, Boolean> {
+
+    /**
+     * Adds a delta to the counter of the given state in the current transaction.
+     * The update is relative, so concurrent writers never overwrite each other's changes.
+     *
+     * @param archived whether to change the counter of archived news.
+     * @param delta    the number to add, negative to subtract.
+     * @return the number of updated counters.
+     */
+    @Modifying
+    @Query("UPDATE NewsCounter c SET c.rowCount = c.rowCount + :delta WHERE c.archived = :archived")
+    int add(@Param("archived") boolean archived, @Param("delta") long delta);
+}
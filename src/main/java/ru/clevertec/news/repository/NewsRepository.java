@@ -2,9 +2,18 @@ package ru.clevertec.news.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.clevertec.news.entity.News;
+import ru.clevertec.news.entity.dto.NewsResponse;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Repository interface for News entity.
@@ -31,4 +40,107 @@ public interface NewsRepository extends JpaRepository<News, Long> {
      * @return a page of non-archived news.
      */
     Page<News> findAllByIsArchivedIsFalse(PageRequest pageRequest);
+
+    /**
+     * Retrieves a page of news responses in the given state, ordered by ID.
+     * The responses are built by the query itself from one join with the users,
+     * so no entity is loaded into the persistence context.
+     *
+     * @param archived whether to list archived news.
+     * @param pageable the pagination information.
+     * @return a page of news responses with the total count.
+     */
+    @Query(value = "SELECT new ru.clevertec.news.entity.dto.NewsResponse(n.id, n.time, n.title, n.text, "
+            + "u.id, u.uuid, u.userName) FROM News n JOIN n.user u WHERE n.isArchived = :archived ORDER BY n.id",
+            countQuery = "SELECT count(n) FROM News n WHERE n.isArchived = :archived")
+    Page<NewsResponse> findResponsePage(@Param("archived") boolean archived, Pageable pageable);
+
+    /**
+     * Retrieves a slice of news responses in the given state, ordered by ID, without counting them:
+     * one row more than the page size is read to tell whether a next slice exists.
+     *
+     * @param archived whether to list archived news.
+     * @param pageable the pagination information.
+     * @return a slice of news responses.
+     */
+    @Query("SELECT new ru.clevertec.news.entity.dto.NewsResponse(n.id, n.time, n.title, n.text, "
+            + "u.id, u.uuid, u.userName) FROM News n JOIN n.user u WHERE n.isArchived = :archived ORDER BY n.id")
+    Slice<NewsResponse> findResponseSlice(@Param("archived") boolean archived, Pageable pageable);
+
+    /**
+     * Counts the news in the given state.
+     *
+     * @param isArchived whether to count archived news.
+     * @return the number of news.
+     */
+    long countByIsArchived(boolean isArchived);
+
+    /**
+     * Retrieves the IDs of the most recent non-archived news, newest first.
+     *
+     * @param pageable the number of IDs to retrieve.
+     * @return the IDs of the most recent news.
+     */
+    @Query("SELECT n.id FROM News n WHERE n.isArchived = false ORDER BY n.time DESC, n.id DESC")
+    List<Long> findRecentLiveIds(Pageable pageable);
+
+    /**
+     * Retrieves the first page of news in the given state, newest first.
+     *
+     * @param archived whether to list archived news.
+     * @param pageable the number of news to retrieve.
+     * @return the news responses ordered by time and ID, both descending.
+     */
+    @Query("SELECT new ru.clevertec.news.entity.dto.NewsResponse(n.id, n.time, n.title, n.text, "
+            + "u.id, u.uuid, u.userName) FROM News n JOIN n.user u WHERE n.isArchived = :archived "
+            + "ORDER BY n.time DESC, n.id DESC")
+    List<NewsResponse> findFirstByCursor(@Param("archived") boolean archived, Pageable pageable);
+
+    /**
+     * Retrieves the news following a position in the listing of the given state, newest first.
+     * The row comparison lets the database seek to the position instead of skipping the rows before it,
+     * so every page costs the same.
+     *
+     * @param archived whether to list archived news.
+     * @param time     the time of the last news returned.
+     * @param id       the ID of the last news returned.
+     * @param pageable the number of news to retrieve.
+     * @return the news responses after the position ordered by time and ID, both descending.
+     */
+    @Query("SELECT new ru.clevertec.news.entity.dto.NewsResponse(n.id, n.time, n.title, n.text, "
+            + "u.id, u.uuid, u.userName) FROM News n JOIN n.user u "
+            + "WHERE n.isArchived = :archived AND (n.time, n.id) < (:time, :id) ORDER BY n.time DESC, n.id DESC")
+    List<NewsResponse> findNextByCursor(@Param("archived") boolean archived,
+                                        @Param("time") LocalDateTime time,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    /**
+     * Archives the live news among the given IDs with a single statement.
+     * Must be called in a read-write transaction; the returned IDs are those actually changed,
+     * so IDs that are missing or already archived are left out.
+     *
+     * @param ids the IDs of the news to archive.
+     * @return the IDs of the archived news.
+     */
+    @Query(value = "UPDATE news SET is_archive = true WHERE id IN (:ids) AND is_archive = false RETURNING id",
+            nativeQuery = true)
+    List<Long> archiveAllById(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Archives at most {@code limit} live news published in the time range with a single statement,
+     * lowest IDs first. Must be called in a read-write transaction; repeated calls archive the range chunk by chunk
+     * until fewer than {@code limit} IDs are returned.
+     *
+     * @param from  the start of the range, inclusive.
+     * @param to    the end of the range, exclusive.
+     * @param limit the maximum number of news to archive.
+     * @return the IDs of the archived news.
+     */
+    @Query(value = "UPDATE news SET is_archive = true WHERE is_archive = false AND id IN ("
+            + "SELECT id FROM news WHERE is_archive = false AND time >= :from AND time < :to ORDER BY id LIMIT :limit) "
+            + "RETURNING id", nativeQuery = true)
+    List<Long> archiveChunkBetween(@Param("from") LocalDateTime from,
+                                   @Param("to") LocalDateTime to,
+                                   @Param("limit") int limit);
 }
@@ -1,9 +1,13 @@
 package ru.clevertec.news.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.clevertec.news.entity.User;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,4 +28,40 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return an Optional containing the found user or an empty Optional if not found.
      */
     Optional<User> findByUuid(UUID uuid);
+
+    /**
+     * Finds the users with any of the given UUIDs in one query.
+     *
+     * @param uuids the UUIDs of the users to find.
+     * @return the found users, in no particular order.
+     */
+    List<User> findAllByUuidIn(Collection<UUID> uuids);
+
+    /**
+     * Inserts the user, or finds the one already holding the UUID, with a single atomic statement,
+     * so concurrent first posts of the same author end up with one user instead of a unique-constraint failure.
+     * An existing user keeps its name. Must be called in a read-write transaction.
+     *
+     * @param uuid     the UUID of the user.
+     * @param userName the name of the user, used only when the user is inserted.
+     * @return the inserted or existing user.
+     */
+    @Query(value = "INSERT INTO users (id, uuid, user_name) VALUES (nextval('users_id_seq'), :uuid, :userName) "
+            + "ON CONFLICT (uuid) DO UPDATE SET user_name = users.user_name RETURNING id, uuid, user_name",
+            nativeQuery = true)
+    User upsert(@Param("uuid") UUID uuid, @Param("userName") String userName);
+
+    /**
+     * Upserts several users with one multi-row statement, as {@link #upsert(UUID, String)} does for one user.
+     * The UUIDs must be distinct. Must be called in a read-write transaction.
+     *
+     * @param uuids     the UUIDs of the users.
+     * @param userNames the names of the users, index by index, used only for the inserted ones.
+     * @return the inserted or existing users, in no particular order.
+     */
+    @Query(value = "INSERT INTO users (id, uuid, user_name) SELECT nextval('users_id_seq'), t.uuid, t.user_name "
+            + "FROM unnest(CAST(:uuids AS uuid[]), CAST(:userNames AS varchar[])) AS t(uuid, user_name) "
+            + "ON CONFLICT (uuid) DO UPDATE SET user_name = users.user_name RETURNING id, uuid, user_name",
+            nativeQuery = true)
+    List<User> upsertAll(@Param("uuids") UUID[] uuids, @Param("userNames") String[] userNames);
 }
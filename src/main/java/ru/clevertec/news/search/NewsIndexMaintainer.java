@@ -0,0 +1,72 @@
+package ru.clevertec.news.search;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.clevertec.news.event.NewsArchivedBatchEvent;
+import ru.clevertec.news.event.NewsChangedEvent;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps the search index in line with committed news changes.
+ * With asynchronous indexing every change goes through the {@link NewsIndexingQueue}. Otherwise changes made
+ * through the entities are indexed by Hibernate Search itself, and only changes made by SQL statements,
+ * which Hibernate Search does not see, are indexed here.
+ * Every committed change of the index starts a new generation of the {@link SearchResultCache}.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Component
+public class NewsIndexMaintainer {
+
+    private final NewsIndexer indexer;
+    private final NewsIndexingQueue indexingQueue;
+    private final SearchResultCache searchResults;
+
+    /**
+     * Constructor for NewsIndexMaintainer.
+     *
+     * @param indexer       the indexer writing news to the index right away.
+     * @param indexingQueue the queue of asynchronous indexing, empty when news are indexed synchronously.
+     * @param searchResults the cache of search pages invalidated by index changes.
+     */
+    public NewsIndexMaintainer(NewsIndexer indexer, Optional<NewsIndexingQueue> indexingQueue,
+                               SearchResultCache searchResults) {
+        this.indexer = indexer;
+        this.indexingQueue = indexingQueue.orElse(null);
+        this.searchResults = searchResults;
+    }
+
+    /**
+     * Applies a committed news change to the index. Hibernate Search writes the index while the transaction
+     * completes, before this listener runs, so searches of the new generation see the change;
+     * with asynchronous indexing the change is queued instead.
+     *
+     * @param event the committed news change.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNewsChanged(NewsChangedEvent event) {
+        if (indexingQueue != null) {
+            indexingQueue.enqueue(List.of(event.id()));
+        } else {
+            searchResults.invalidate();
+        }
+    }
+
+    /**
+     * Reindexes the news of a committed bulk archive, so that they stop matching the live filter of the search.
+     *
+     * @param event the committed bulk archive.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNewsArchived(NewsArchivedBatchEvent event) {
+        if (indexingQueue != null) {
+            indexingQueue.enqueue(event.ids());
+        } else {
+            indexer.index(event.ids());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package ru.clevertec.news.search;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.clevertec.news.entity.News;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes the current state of news to the search index.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Component
+public class NewsIndexer {
+
+    private static final String NEWS_BY_IDS = "SELECT n FROM News n JOIN FETCH n.user WHERE n.id IN :ids";
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate newTransaction;
+    private final SearchResultCache searchResults;
+
+    /**
+     * Constructor for NewsIndexer.
+     *
+     * @param entityManager      the shared entity manager loading the news.
+     * @param transactionManager the manager of the transaction the index is written in.
+     * @param searchResults      the cache of search pages invalidated by index changes.
+     */
+    public NewsIndexer(EntityManager entityManager, PlatformTransactionManager transactionManager,
+                       SearchResultCache searchResults) {
+        this.entityManager = entityManager;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.searchResults = searchResults;
+    }
+
+    /**
+     * Indexes the news as they are committed now, removing from the index those that no longer exist.
+     * The news are loaded with their authors in one query and indexed when the new transaction commits,
+     * after which the cached search pages are invalidated.
+     *
+     * @param ids the IDs of the news to index.
+     */
+    public void index(Collection<Long> ids) {
+        newTransaction.executeWithoutResult(status -> {
+            SearchIndexingPlan indexingPlan = Search.session(entityManager).indexingPlan();
+            List<News> news = entityManager.createQuery(NEWS_BY_IDS, News.class)
+                    .setParameter("ids", ids)
+                    .getResultList();
+            Set<Long> missing = new HashSet<>(ids);
+            for (News item : news) {
+                indexingPlan.addOrUpdate(item);
+                missing.remove(item.getId());
+            }
+            missing.forEach(id -> indexingPlan.purge(News.class, id, null));
+        });
+        searchResults.invalidate();
+    }
+}
@@ -0,0 +1,47 @@
+package ru.clevertec.news.search;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.clevertec.news.config.NewsIndexingProperties;
+
+import java.time.Duration;
+
+/**
+ * Health of the asynchronous news indexing, reported as {@code newsIndexing}: out of service while the oldest
+ * news not yet indexed has waited longer than {@code max-lag}, which happens when the worker falls behind
+ * or keeps failing. The details carry the backlog and the lag.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "news.search.indexing", name = "async", havingValue = "true")
+public class NewsIndexingHealthIndicator implements HealthIndicator {
+
+    private final NewsIndexingQueue indexingQueue;
+    private final Duration maxLag;
+
+    /**
+     * Constructor for NewsIndexingHealthIndicator.
+     *
+     * @param indexingQueue the queue of asynchronous indexing.
+     * @param properties    the indexing settings holding the maximum lag.
+     */
+    public NewsIndexingHealthIndicator(NewsIndexingQueue indexingQueue, NewsIndexingProperties properties) {
+        this.indexingQueue = indexingQueue;
+        this.maxLag = properties.getMaxLag();
+    }
+
+    @Override
+    public Health health() {
+        Duration lag = indexingQueue.lag();
+        return Health.status(lag.compareTo(maxLag) > 0 ? Status.OUT_OF_SERVICE : Status.UP)
+                .withDetail("backlog", indexingQueue.backlog())
+                .withDetail("lagMillis", lag.toMillis())
+                .withDetail("maxLagMillis", maxLag.toMillis())
+                .build();
+    }
+}
@@ -0,0 +1,275 @@
+package ru.clevertec.news.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import ru.clevertec.news.config.NewsIndexingProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded queue of news waiting to be indexed, drained in batches by a background worker,
+ * so committing a news change no longer waits for the index.
+ *
+ * <p>An ID queued again before its batch starts keeps its place, so a news item changed many times in a row
+ * is indexed once, in its latest state. The worker indexes up to {@code batch-size} news in one transaction,
+ * as soon as a batch is full or its oldest news has waited {@code batch-delay}. Writers wait for the worker
+ * once {@code queue-capacity} news are waiting, which keeps the backlog bounded under a write burst.
+ *
+ * <p>The queue runs in a lifecycle phase stopped after the web server, so stopping drains whatever the last
+ * requests queued, for at most {@code drain-timeout}. News queued while the queue is stopping or not running
+ * are indexed by the calling thread, since the worker may already have drained.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "news.search.indexing", name = "async", havingValue = "true")
+public class NewsIndexingQueue implements SmartLifecycle {
+
+    /**
+     * Lifecycle phase of the queue, lower than the phases of the web server, so it stops after them.
+     */
+    public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final NewsIndexer indexer;
+    private final int capacity;
+    private final int batchSize;
+    private final long batchDelayNanos;
+    private final Duration drainTimeout;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition ready = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final LinkedHashMap<Long, Long> pending = new LinkedHashMap<>();
+    private int inFlight;
+    private long inFlightSince;
+    private boolean running;
+    private boolean stopping;
+    private Thread worker;
+
+    /**
+     * Constructor for NewsIndexingQueue.
+     *
+     * @param indexer    the indexer writing each batch.
+     * @param properties the indexing settings holding the capacity, the batch size and delay and the drain timeout.
+     */
+    public NewsIndexingQueue(NewsIndexer indexer, NewsIndexingProperties properties) {
+        this.indexer = indexer;
+        this.capacity = properties.getQueueCapacity();
+        this.batchSize = properties.getBatchSize();
+        this.batchDelayNanos = properties.getBatchDelay().toNanos();
+        this.drainTimeout = properties.getDrainTimeout();
+    }
+
+    /**
+     * Queues news to be indexed, waiting for room while the queue is full.
+     *
+     * @param ids the IDs of the changed news.
+     */
+    public void enqueue(Collection<Long> ids) {
+        lock.lock();
+        try {
+            while (running && !stopping && pending.size() >= capacity) {
+                notFull.await();
+            }
+            if (running && !stopping) {
+                long now = System.nanoTime();
+                ids.forEach(id -> pending.putIfAbsent(id, now));
+                ready.signal();
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+        indexer.index(ids);
+    }
+
+    /**
+     * Returns the number of news waiting to be indexed, those being indexed included.
+     *
+     * @return the backlog.
+     */
+    public int backlog() {
+        lock.lock();
+        try {
+            return pending.size() + inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns how long the oldest news not yet indexed has waited.
+     *
+     * @return the indexing lag, zero when nothing is waiting.
+     */
+    public Duration lag() {
+        lock.lock();
+        try {
+            long oldest;
+            if (inFlight > 0) {
+                oldest = inFlightSince;
+            } else if (!pending.isEmpty()) {
+                oldest = pending.values().iterator().next();
+            } else {
+                return Duration.ZERO;
+            }
+            return Duration.ofNanos(System.nanoTime() - oldest);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        lock.lock();
+        try {
+            running = true;
+            stopping = false;
+            worker = new Thread(this::work, "news-indexing");
+            worker.setDaemon(true);
+            worker.start();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void stop() {
+        Thread draining;
+        lock.lock();
+        try {
+            stopping = true;
+            draining = worker;
+            ready.signal();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (draining == null) {
+            return;
+        }
+        try {
+            draining.join(drainTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (draining.isAlive()) {
+            log.warn("News indexing did not drain within {}, {} news left unindexed", drainTimeout, backlog());
+            draining.interrupt();
+        }
+        lock.lock();
+        try {
+            running = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void work() {
+        try {
+            List<Long> batch;
+            while ((batch = nextBatch()) != null) {
+                try {
+                    indexer.index(batch);
+                    finish(null);
+                } catch (RuntimeException e) {
+                    log.error("Failed to index {} news, retrying", batch.size(), e);
+                    finish(batch);
+                    TimeUnit.NANOSECONDS.sleep(batchDelayNanos);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until a batch is full, its oldest news has waited the batch delay or the queue is stopping,
+     * and takes the batch.
+     *
+     * @return the IDs to index, {@code null} once the queue is stopping and drained.
+     */
+    private List<Long> nextBatch() throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                if (pending.isEmpty()) {
+                    if (stopping) {
+                        return null;
+                    }
+                    ready.await();
+                    continue;
+                }
+                long oldest = pending.values().iterator().next();
+                long wait = oldest + batchDelayNanos - System.nanoTime();
+                if (stopping || wait <= 0 || pending.size() >= batchSize) {
+                    return take(oldest);
+                }
+                ready.awaitNanos(wait);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<Long> take(long oldest) {
+        List<Long> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+        Iterator<Long> ids = pending.keySet().iterator();
+        while (ids.hasNext() && batch.size() < batchSize) {
+            batch.add(ids.next());
+            ids.remove();
+        }
+        inFlight = batch.size();
+        inFlightSince = oldest;
+        notFull.signalAll();
+        return batch;
+    }
+
+    /**
+     * Ends the batch in flight, queueing its news again ahead of the others when it failed.
+     */
+    private void finish(List<Long> failed) {
+        lock.lock();
+        try {
+            if (failed != null) {
+                Map<Long, Long> retried = new LinkedHashMap<>();
+                failed.forEach(id -> retried.put(id, inFlightSince));
+                retried.putAll(pending);
+                pending.clear();
+                pending.putAll(retried);
+            }
+            inFlight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package ru.clevertec.news.search;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.QueryBuilder;
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.mapper.orm.Search;
+import org.springframework.stereotype.Component;
+import ru.clevertec.news.entity.News;
+import ru.clevertec.news.util.SearchCursor;
+
+import java.util.Map;
+
+/**
+ * Builds native Lucene queries over the news index for the searches that the Hibernate Search DSL cannot express,
+ * such as resuming from a {@link SearchCursor}.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class NewsLuceneQueries {
+
+    /**
+     * Sortable field holding the news ID, the tie-breaker of the search order.
+     */
+    public static final String FIELD_ID_SORT = "idSort";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Builds a query matching any term of the value in any of the fields, analyzed as the index does for searches.
+     *
+     * @param value         the searched value.
+     * @param boostedFields the fields to search with their boosts.
+     * @return the query, or {@code null} if the value has no searchable term.
+     */
+    public Query match(String value, Map<String, Float> boostedFields) {
+        QueryBuilder builder = new QueryBuilder(searchAnalyzer());
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        boolean empty = true;
+        for (Map.Entry<String, Float> field : boostedFields.entrySet()) {
+            Query fieldQuery = builder.createBooleanQuery(field.getKey(), value);
+            if (fieldQuery != null) {
+                query.add(new BoostQuery(fieldQuery, field.getValue()), BooleanClause.Occur.SHOULD);
+                empty = false;
+            }
+        }
+        return empty ? null : query.build();
+    }
+
+    /**
+     * Restricts a query to the matches after the cursor in the {@code (score desc, id asc)} order.
+     *
+     * @param query  the query.
+     * @param cursor the position of the last hit returned.
+     * @return the restricted query.
+     */
+    public Query after(Query query, SearchCursor cursor) {
+        return new SearchAfterQuery(query, FIELD_ID_SORT, cursor.score(), cursor.id());
+    }
+
+    private Analyzer searchAnalyzer() {
+        return Search.mapping(entityManagerFactory)
+                .indexedEntity(News.class)
+                .indexManager()
+                .unwrap(LuceneIndexManager.class)
+                .searchAnalyzer();
+    }
+}
@@ -0,0 +1,160 @@
+package ru.clevertec.news.search;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.TwoPhaseIterator;
+import org.apache.lucene.search.Weight;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Lucene query matching the documents of a wrapped query that come after a position in the
+ * {@code (score desc, id asc)} order: a lower score, or the same score and a greater ID.
+ * Scores are those of the wrapped query, so it must be the only scoring clause of the search.
+ *
+ * <p>Sorting the matches of this query gives the page after the position directly, so Lucene collects
+ * only {@code limit} documents per page instead of {@code offset + limit}.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public final class SearchAfterQuery extends Query {
+
+    private static final float MATCH_COST = 10;
+
+    private final Query query;
+    private final String idField;
+    private final float score;
+    private final long id;
+
+    /**
+     * Constructor for SearchAfterQuery.
+     *
+     * @param query   the wrapped query, giving the matches and their scores.
+     * @param idField the sortable numeric field holding the document ID.
+     * @param score   the score of the last document returned.
+     * @param id      the ID of the last document returned.
+     */
+    public SearchAfterQuery(Query query, String idField, float score, long id) {
+        this.query = query;
+        this.idField = idField;
+        this.score = score;
+        this.id = id;
+    }
+
+    @Override
+    public Query rewrite(IndexReader reader) throws IOException {
+        Query rewritten = query.rewrite(reader);
+        return rewritten == query ? this : new SearchAfterQuery(rewritten, idField, score, id);
+    }
+
+    @Override
+    public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+        Weight weight = query.createWeight(searcher, ScoreMode.COMPLETE, boost);
+        return new Weight(this) {
+
+            @Override
+            @SuppressWarnings("deprecation")
+            public void extractTerms(Set<Term> terms) {
+                weight.extractTerms(terms);
+            }
+
+            @Override
+            public Explanation explain(LeafReaderContext context, int doc) throws IOException {
+                return weight.explain(context, doc);
+            }
+
+            @Override
+            public Scorer scorer(LeafReaderContext context) throws IOException {
+                Scorer scorer = weight.scorer(context);
+                if (scorer == null) {
+                    return null;
+                }
+                SortedNumericDocValues ids = DocValues.getSortedNumeric(context.reader(), idField);
+                TwoPhaseIterator afterPosition = new TwoPhaseIterator(scorer.iterator()) {
+                    @Override
+                    public boolean matches() throws IOException {
+                        float docScore = scorer.score();
+                        if (docScore != score) {
+                            return docScore < score;
+                        }
+                        return ids.advanceExact(scorer.docID()) && ids.nextValue() > id;
+                    }
+
+                    @Override
+                    public float matchCost() {
+                        return MATCH_COST;
+                    }
+                };
+                return new Scorer(this) {
+                    @Override
+                    public int docID() {
+                        return scorer.docID();
+                    }
+
+                    @Override
+                    public DocIdSetIterator iterator() {
+                        return TwoPhaseIterator.asDocIdSetIterator(afterPosition);
+                    }
+
+                    @Override
+                    public TwoPhaseIterator twoPhaseIterator() {
+                        return afterPosition;
+                    }
+
+                    @Override
+                    public float getMaxScore(int upTo) throws IOException {
+                        return Math.min(score, scorer.getMaxScore(upTo));
+                    }
+
+                    @Override
+                    public float score() throws IOException {
+                        return scorer.score();
+                    }
+                };
+            }
+
+            @Override
+            public boolean isCacheable(LeafReaderContext context) {
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public void visit(QueryVisitor visitor) {
+        query.visit(visitor.getSubVisitor(BooleanClause.Occur.MUST, this));
+    }
+
+    @Override
+    public String toString(String field) {
+        return "SearchAfter(" + query.toString(field) + ", score=" + score + ", " + idField + "=" + id + ")";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return sameClassAs(other)
+                && query.equals(((SearchAfterQuery) other).query)
+                && idField.equals(((SearchAfterQuery) other).idField)
+                && Float.compare(score, ((SearchAfterQuery) other).score) == 0
+                && id == ((SearchAfterQuery) other).id;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(classHash(), query, idField, score, id);
+    }
+}
@@ -0,0 +1,94 @@
+package ru.clevertec.news.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import ru.clevertec.news.cache.CacheMeters;
+import ru.clevertec.news.cache.ListingGenerations;
+import ru.clevertec.news.cache.LruMap;
+import ru.clevertec.news.config.NewsCacheProperties;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * In-process cache of full-text search pages, keyed by the normalized search value, the page and the
+ * {@link ListingGenerations#SEARCH} generation of the news index.
+ * The generation is bumped once the index has changed, so an index change invalidates every cached page in O(1);
+ * pages of old generations are never read again and age out of the bounded LRU map.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Component
+public class SearchResultCache {
+
+    /**
+     * Name of this cache in metrics.
+     */
+    public static final String CACHE_NAME = "news-search";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ListingGenerations generations;
+    private final LruMap<Key, Object> pages;
+    private final CacheMeters meters;
+
+    /**
+     * Constructor for SearchResultCache.
+     *
+     * @param generations   the generation counters, holding the one of the search index.
+     * @param properties    the cache settings holding the size bound.
+     * @param meterRegistry the registry of the cache meters.
+     */
+    public SearchResultCache(ListingGenerations generations, NewsCacheProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.generations = generations;
+        this.pages = new LruMap<>(properties.getSearch().getCapacity());
+        this.meters = new CacheMeters(CACHE_NAME, meterRegistry, pages::size, pages::evictions);
+    }
+
+    /**
+     * Returns the cached page of a search, running the search on a miss.
+     * The generation is read before searching, so a page found before an index change is never stored
+     * under the generation that follows it.
+     *
+     * @param searchValue the searched value.
+     * @param page        the page of the results, e.g. its offset and limit.
+     * @param search      the search producing the page.
+     * @param <T>         the type of the page.
+     * @return the page.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String searchValue, String page, Supplier<T> search) {
+        Key key = new Key(generations.current(ListingGenerations.SEARCH), normalize(searchValue), page);
+        Object cached = meters.getTimer().record(() -> pages.get(key));
+        if (cached != null) {
+            meters.hit();
+            return (T) cached;
+        }
+        meters.miss();
+        T result = meters.loadTimer().record(search);
+        if (result != null) {
+            meters.putTimer().record(() -> pages.put(key, result));
+        }
+        return result;
+    }
+
+    /**
+     * Starts a new generation of the search index, after a change of the index became visible to searches.
+     */
+    public void invalidate() {
+        generations.bump(ListingGenerations.SEARCH);
+    }
+
+    /**
+     * Normalizes a search value the way the english analyzer would not tell apart: case and whitespace.
+     */
+    static String normalize(String searchValue) {
+        return WHITESPACE.matcher(searchValue.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private record Key(long generation, String searchValue, String page) {
+    }
+}
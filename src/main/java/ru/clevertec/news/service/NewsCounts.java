@@ -0,0 +1,114 @@
+package ru.clevertec.news.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import ru.clevertec.news.config.NewsListingProperties;
+import ru.clevertec.news.config.NewsListingProperties.CountMode;
+import ru.clevertec.news.entity.NewsCounter;
+import ru.clevertec.news.repository.NewsCounterRepository;
+import ru.clevertec.news.repository.NewsRepository;
+
+/**
+ * Number of live and archived news behind the paginated listings.
+ *
+ * <p>The counters are maintained in every mode, inside the transaction of the write that changes them,
+ * so the mode can be switched without recounting. They are read in the {@link CountMode#COUNTER} mode;
+ * the {@link CountMode#ESTIMATE} mode asks the Postgres planner instead, which never touches the table
+ * nor the counter rows that concurrent writes keep locked until they commit.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class NewsCounts {
+
+    private static final String ESTIMATE_LIVE = "EXPLAIN (FORMAT JSON) SELECT 1 FROM news WHERE is_archive = false";
+    private static final String ESTIMATE_ARCHIVED = "EXPLAIN (FORMAT JSON) SELECT 1 FROM news WHERE is_archive = true";
+
+    private final NewsCounterRepository counterRepository;
+    private final NewsRepository newsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final NewsListingProperties properties;
+
+    /**
+     * Returns the configured count mode.
+     *
+     * @return the count mode.
+     */
+    public CountMode mode() {
+        return properties.getCountMode();
+    }
+
+    /**
+     * Returns the number of news in the given state according to the configured mode:
+     * the planner estimate in the {@link CountMode#ESTIMATE} mode, the maintained counter otherwise.
+     *
+     * @param archived whether to count archived news.
+     * @return the number of news.
+     */
+    public long count(boolean archived) {
+        if (mode() == CountMode.ESTIMATE) {
+            return estimate(archived);
+        }
+        return counterRepository.findById(archived)
+                .map(NewsCounter::getRowCount)
+                .orElseGet(() -> newsRepository.countByIsArchived(archived));
+    }
+
+    /**
+     * Counts a created news item, which is always live.
+     * Must be called in the transaction saving the news.
+     */
+    public void created() {
+        created(1);
+    }
+
+    /**
+     * Counts a batch of created news with a single update.
+     * Must be called in the transaction saving the news.
+     *
+     * @param count the number of created news.
+     */
+    public void created(long count) {
+        if (count > 0) {
+            counterRepository.add(false, count);
+        }
+    }
+
+    /**
+     * Moves a news item from the live counter to the archived one.
+     * Must be called in the transaction archiving the news, and only if the news was live.
+     */
+    public void archived() {
+        archived(1);
+    }
+
+    /**
+     * Moves a batch of news from the live counter to the archived one.
+     * Must be called in the transaction archiving the news, with the number of news that were live.
+     *
+     * @param count the number of archived news.
+     */
+    public void archived(long count) {
+        if (count > 0) {
+            counterRepository.add(false, -count);
+            counterRepository.add(true, count);
+        }
+    }
+
+    private long estimate(boolean archived) {
+        String plan = jdbcTemplate.queryForObject(archived ? ESTIMATE_ARCHIVED : ESTIMATE_LIVE, String.class);
+        try {
+            JsonNode rows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+            return Math.max(0, rows.asLong());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read the query plan of the news count estimate", e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package ru.clevertec.news.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.clevertec.news.entity.dto.NewsResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes news as NDJSON, one {@link NewsResponse} per line, in no particular order.
+ *
+ * <p>The rows are streamed inside a read-only transaction, so the driver reads them through a server-side cursor
+ * in batches of {@link #FETCH_SIZE} and each row is written out before the next one is read.
+ * Nothing is kept per row, so the heap stays flat however many news are exported; the output stream only
+ * has to flush on its own, as the servlet response does.
+ *
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@Component
+public class NewsExporter {
+
+    private static final String SELECT_SQL = "SELECT n.id, n.time, n.title, n.text, u.id, u.uuid, u.user_name "
+            + "FROM news n JOIN users u ON u.id = n.user_id";
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter newsWriter;
+
+    /**
+     * Constructor for NewsExporter.
+     *
+     * @param jdbcTemplate       the template streaming the rows.
+     * @param transactionManager the manager of the read-only transaction keeping the cursor open.
+     * @param objectMapper       the mapper writing the news, configured as for the API responses.
+     */
+    public NewsExporter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                        ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.newsWriter = objectMapper.writerFor(NewsResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes the news in the given scope published in the time range. The output stream is flushed but not closed.
+     *
+     * @param scope the news to export.
+     * @param from  the start of the range, inclusive, {@code null} for no lower bound.
+     * @param to    the end of the range, exclusive, {@code null} for no upper bound.
+     * @param out   the stream to write to.
+     * @return the number of exported news.
+     * @throws IOException if the output stream fails.
+     */
+    public long export(Scope scope, LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        StringBuilder sql = new StringBuilder(SELECT_SQL).append(" WHERE true");
+        List<Object> args = new ArrayList<>();
+        if (scope != Scope.ALL) {
+            sql.append(" AND n.is_archive = ?");
+            args.add(scope == Scope.ARCHIVED);
+        }
+        if (from != null) {
+            sql.append(" AND n.time >= ?");
+            args.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND n.time < ?");
+            args.add(Timestamp.valueOf(to));
+        }
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            AtomicLong exported = new AtomicLong();
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(sql.toString());
+                    statement.setFetchSize(FETCH_SIZE);
+                    for (int i = 0; i < args.size(); i++) {
+                        statement.setObject(i + 1, args.get(i));
+                    }
+                    return statement;
+                }, resultSet -> {
+                    NewsResponse news = new NewsResponse(resultSet.getLong(1),
+                            resultSet.getTimestamp(2).toLocalDateTime(),
+                            resultSet.getString(3),
+                            resultSet.getString(4),
+                            resultSet.getLong(5),
+                            resultSet.getObject(6, UUID.class),
+                            resultSet.getString(7));
+                    write(generator, news);
+                    exported.incrementAndGet();
+                }));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            generator.flush();
+            return exported.get();
+        }
+    }
+
+    private void write(JsonGenerator generator, NewsResponse news) {
+        try {
+            newsWriter.writeValue(generator, news);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * News selected for an export.
+     */
+    public enum Scope {
+        LIVE, ARCHIVED, ALL
+    }
+}
@@ -3,8 +3,12 @@ package ru.clevertec.news.service;
 
 import ru.clevertec.news.entity.dto.NewsRequest;
 import ru.clevertec.news.entity.dto.NewsResponse;
+import ru.clevertec.news.util.BatchItemResult;
+import ru.clevertec.news.util.CursorPage;
 import ru.clevertec.news.util.PaginationResponse;
+import ru.clevertec.news.util.SearchResponse;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NewsService {
@@ -17,11 +21,23 @@ public interface NewsService {
 
     PaginationResponse<NewsResponse> getAllFromArchive(int pageSize, int numberPage);
 
+    CursorPage<NewsResponse> getAllByCursor(String cursor, int limit);
+
+    CursorPage<NewsResponse> getAllFromArchiveByCursor(String cursor, int limit);
+
     NewsResponse create(NewsRequest newsDto);
 
+    List<BatchItemResult<NewsResponse>> createAll(List<NewsRequest> newsDtos);
+
     NewsResponse update(Long id, NewsRequest newsDto);
 
     void archive(Long id);
 
-    List<NewsResponse> search(String searchValue, Integer offset, Integer limit);
+    List<Long> archiveAll(List<Long> ids);
+
+    List<Long> archiveBetween(LocalDateTime from, LocalDateTime to);
+
+    SearchResponse<NewsResponse> search(String searchValue, Integer offset, Integer limit);
+
+    CursorPage<NewsResponse> searchByCursor(String searchValue, String cursor, int limit);
 }
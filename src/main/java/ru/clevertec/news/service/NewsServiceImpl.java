@@ -1,29 +1,55 @@
 package ru.clevertec.news.service;
 
 import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.apache.lucene.search.Query;
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.engine.search.projection.dsl.ProjectionFinalStep;
+import org.hibernate.search.engine.search.projection.dsl.SearchProjectionFactory;
 import org.hibernate.search.engine.search.query.SearchResult;
-import org.hibernate.search.engine.search.sort.dsl.SearchSortFactory;
 import org.hibernate.search.mapper.orm.Search;
 import org.hibernate.search.mapper.orm.session.SearchSession;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import ru.clevertec.exceptionhandlerstarter.exception.EntityNotFoundException;
 import ru.clevertec.loggingstarter.annotation.Loggable;
+import ru.clevertec.news.cache.NewsExistenceIndex;
+import ru.clevertec.news.config.NewsListingProperties.CountMode;
 import ru.clevertec.news.entity.News;
 import ru.clevertec.news.entity.User;
 import ru.clevertec.news.entity.dto.NewsRequest;
 import ru.clevertec.news.entity.dto.NewsResponse;
+import ru.clevertec.news.event.NewsArchivedBatchEvent;
+import ru.clevertec.news.event.NewsChangedEvent;
 import ru.clevertec.news.mapper.NewsMapper;
 import ru.clevertec.news.repository.NewsRepository;
+import ru.clevertec.news.search.NewsLuceneQueries;
+import ru.clevertec.news.search.SearchResultCache;
+import ru.clevertec.news.util.BatchItemResult;
+import ru.clevertec.news.util.CursorPage;
+import ru.clevertec.news.util.NewsCursor;
 import ru.clevertec.news.util.PaginationResponse;
+import ru.clevertec.news.util.SearchCursor;
+import ru.clevertec.news.util.SearchResponse;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service implementation for managing news entities.
@@ -43,23 +69,47 @@ public class NewsServiceImpl implements NewsService {
     private static final String FIELD_TITLE = "title";
     private static final String FIELD_TEXT = "text";
     private static final String FIELD_USERNAME = "user.userName";
+    private static final String FIELD_USER_ID = "user.id";
+    private static final String FIELD_USER_UUID = "user.uuid";
+    private static final String FIELD_TIME = "time";
+    private static final String FIELD_ARCHIVED = "isArchived";
+    private static final Map<String, Float> BOOSTED_FIELDS = Map.of(
+            FIELD_TITLE, TITLE_BOOST_FACTOR,
+            FIELD_TEXT, TEXT_BOOST_FACTOR,
+            FIELD_USERNAME, USERNAME_BOOST_FACTOR);
+    private static final int UNKNOWN_COUNT_PAGE = -1;
+    private static final int ARCHIVE_CHUNK_SIZE = 1000;
+    private static final int ARCHIVE_ATTEMPTS = 3;
 
     private final NewsRepository newsRepository;
     private final NewsMapper newsMapper;
     private final EntityManager entityManager;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NewsExistenceIndex existenceIndex;
+    private final NewsCounts newsCounts;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final NewsLuceneQueries luceneQueries;
+    private final SearchResultCache searchResults;
 
     /**
      * Retrieves a news item by its ID.
+     * IDs the existence index knows to be missing or archived are rejected without a database call.
      *
      * @param id The ID of the news item to retrieve.
      * @return A {@link NewsResponse} representing the retrieved news item.
      * @throws EntityNotFoundException if the news item is not found or is archived.
      */
     @Override
-    @Cacheable(value = "api-cache",key = "#id")
+    @Cacheable(value = "api-cache", key = "#id", sync = true)
     public NewsResponse get(Long id) {
+        if (existenceIndex.rulesOut(id, false)) {
+            throw EntityNotFoundException.of(News.class, id);
+        }
+        long indexVersion = existenceIndex.version();
         Optional<News> optionalNews = newsRepository.findById(id);
+        optionalNews.ifPresent(news -> existenceIndex.record(id, news.isArchived(), indexVersion));
         if (optionalNews.isEmpty() || optionalNews.get().isArchived()) {
             throw EntityNotFoundException.of(News.class, id);
         }
@@ -69,6 +119,7 @@ public class NewsServiceImpl implements NewsService {
 
     /**
      * Retrieves an archived news item by its ID.
+     * IDs the existence index knows to be missing or live are rejected without a database call.
      *
      * @param id The ID of the archived news item to retrieve.
      * @return A {@link NewsResponse} representing the retrieved archived news item.
@@ -76,9 +127,14 @@ public class NewsServiceImpl implements NewsService {
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "api-cache",key = "#id")
+    @Cacheable(value = "api-archive-cache", key = "#id", sync = true)
     public NewsResponse getFromArchive(Long id) {
+        if (existenceIndex.rulesOut(id, true)) {
+            throw EntityNotFoundException.of(News.class, id);
+        }
+        long indexVersion = existenceIndex.version();
         Optional<News> optionalNews = newsRepository.findById(id);
+        optionalNews.ifPresent(news -> existenceIndex.record(id, news.isArchived(), indexVersion));
 
         if (optionalNews.isEmpty() || !optionalNews.get().isArchived()) {
             throw EntityNotFoundException.of(News.class, id);
@@ -89,69 +145,133 @@ public class NewsServiceImpl implements NewsService {
 
     /**
      * Retrieves a paginated list of active news items.
+     * Pages are cached under the current generation of the live listing.
+     * The number of pages comes from the configured {@link CountMode}.
      *
      * @param pageSize   The number of news items per page.
      * @param numberPage The page number to retrieve.
      * @return A {@link PaginationResponse} containing a list of {@link NewsResponse} objects.
      */
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "news-pages", key = "@listingGenerations.pageKey('live', #pageSize, #numberPage)", sync = true)
     public PaginationResponse<NewsResponse> getAll(int pageSize, int numberPage) {
-        PageRequest pageRequest = PageRequest.of(numberPage - 1, pageSize);
-        Page<News> pageNews = newsRepository.findAllByIsArchivedIsFalse(pageRequest);
-        PaginationResponse<NewsResponse> paginationResponse = new PaginationResponse<>();
-        paginationResponse.setCountPage(pageNews.getTotalPages());
-        paginationResponse.setPageNumber(numberPage);
-        paginationResponse.setContent(newsMapper.toViewModelList(pageNews.getContent()));
-
-        return paginationResponse;
+        return listing(false, pageSize, numberPage);
     }
 
     /**
      * Retrieves a paginated list of archived news items.
+     * Pages are cached under the current generation of the archive listing.
+     * The number of pages comes from the configured {@link CountMode}.
      *
      * @param pageSize   The number of archived news items per page.
      * @param numberPage The page number to retrieve.
      * @return A {@link PaginationResponse} containing a list of {@link NewsResponse} objects.
      */
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "news-pages", key = "@listingGenerations.pageKey('archive', #pageSize, #numberPage)", sync = true)
     public PaginationResponse<NewsResponse> getAllFromArchive(int pageSize, int numberPage) {
-        PageRequest pageRequest = PageRequest.of(numberPage - 1, pageSize);
-        Page<News> pageNews = newsRepository.findAllByIsArchivedIsTrue(pageRequest);
+        return listing(true, pageSize, numberPage);
+    }
 
-        PaginationResponse<NewsResponse> paginationResponse = new PaginationResponse<>();
-        paginationResponse.setCountPage(pageNews.getTotalPages());
-        paginationResponse.setPageNumber(numberPage);
-        paginationResponse.setContent(newsMapper.toViewModelList(pageNews.getContent()));
+    /**
+     * Retrieves a page of active news items following the cursor, newest first.
+     *
+     * @param cursor the token returned with the previous page, {@code null} for the first page.
+     * @param limit  the maximum number of news items on the page.
+     * @return a {@link CursorPage} with the news items and the cursor of the next page.
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<NewsResponse> getAllByCursor(String cursor, int limit) {
+        return pageByCursor(false, cursor, limit);
+    }
 
-        return paginationResponse;
+    /**
+     * Retrieves a page of archived news items following the cursor, newest first.
+     *
+     * @param cursor the token returned with the previous page, {@code null} for the first page.
+     * @param limit  the maximum number of archived news items on the page.
+     * @return a {@link CursorPage} with the news items and the cursor of the next page.
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<NewsResponse> getAllFromArchiveByCursor(String cursor, int limit) {
+        return pageByCursor(true, cursor, limit);
     }
 
     /**
      * Creates a new news item.
+     * The author is resolved without a query when known, with one upsert otherwise.
+     * The created item is cached under its ID once the transaction commits.
      *
      * @param newsDto The {@link NewsRequest} containing the information for the new news item.
      * @return A {@link NewsResponse} representing the newly created news item.
      */
     @Override
     @Transactional
-    @Cacheable(value = "api-cache",key = "#newsDto.title() + #newsDto.text")
     public NewsResponse create(NewsRequest newsDto) {
 
         News news = newsMapper.toEntity(newsDto);
-        User user = userService.getByUuiD(newsDto.user().uuid()).orElse(null);
+        news.setUser(userService.getOrCreate(newsDto.user()));
+        news.setArchived(false);
+        NewsResponse response = newsMapper.toViewModel(newsRepository.save(news));
+        newsCounts.created();
+        eventPublisher.publishEvent(NewsChangedEvent.created(response));
 
-        if (user == null) {
-            user = userService.create(newsDto.user());
-            news.setUser(user);
-        } else {
-            news.setUser(user);
+        return response;
+    }
+
+    /**
+     * Creates a batch of news items in one transaction.
+     * Every item is validated on its own and an invalid one is rejected without failing the others.
+     * The authors are resolved with one query, the news get their IDs from the pooled sequence,
+     * so Hibernate sends the inserts to the database in JDBC batches at flush time.
+     *
+     * @param newsDtos the news items to create.
+     * @return the outcome of every item, in the order of the request.
+     */
+    @Override
+    @Transactional
+    public List<BatchItemResult<NewsResponse>> createAll(List<NewsRequest> newsDtos) {
+        List<BatchItemResult<NewsResponse>> results = new ArrayList<>(newsDtos.size());
+        List<NewsRequest> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        for (int i = 0; i < newsDtos.size(); i++) {
+            NewsRequest newsDto = newsDtos.get(i);
+            String error = validate(newsDto);
+            results.add(error == null ? null : BatchItemResult.rejected(i, error));
+            if (error == null) {
+                accepted.add(newsDto);
+                acceptedIndexes.add(i);
+            }
         }
-        news.setArchived(false);
-        return newsMapper.toViewModel(newsRepository.save(news));
+
+        Map<UUID, User> users = userService.getOrCreateAll(accepted.stream().map(NewsRequest::user).toList());
+        List<News> news = new ArrayList<>(accepted.size());
+        for (NewsRequest newsDto : accepted) {
+            News item = newsMapper.toEntity(newsDto);
+            item.setUser(users.get(newsDto.user().uuid()));
+            item.setArchived(false);
+            news.add(item);
+        }
+        List<News> saved = newsRepository.saveAll(news);
+        newsCounts.created(saved.size());
+
+        for (int i = 0; i < saved.size(); i++) {
+            NewsResponse response = newsMapper.toViewModel(saved.get(i));
+            eventPublisher.publishEvent(NewsChangedEvent.created(response));
+            results.set(acceptedIndexes.get(i), BatchItemResult.created(acceptedIndexes.get(i), response));
+        }
+        return results;
     }
 
     /**
      * Updates an existing news item.
+     * The cached item is replaced once the transaction commits.
      *
      * @param id      The ID of the news item to update.
      * @param newsDto The {@link NewsRequest} containing the updated information for the news item.
@@ -160,7 +280,6 @@ public class NewsServiceImpl implements NewsService {
      */
     @Override
     @Transactional
-    @CachePut(value = "api-cache",key = "#id")
     public NewsResponse update(Long id, NewsRequest newsDto) {
         Optional<News> optionalNews = newsRepository.findById(id);
 
@@ -168,58 +287,314 @@ public class NewsServiceImpl implements NewsService {
             throw EntityNotFoundException.of(News.class, id);
         }
         News updatedNews = newsRepository.save(newsMapper.merge(optionalNews.get(), newsDto));
+        NewsResponse response = newsMapper.toViewModel(updatedNews);
+        eventPublisher.publishEvent(NewsChangedEvent.updated(response));
 
-        return newsMapper.toViewModel(updatedNews);
+        return response;
     }
 
     /**
      * Archives a news item by setting its archived status to true.
+     * The cached item is evicted once the transaction commits. The transaction is run again
+     * if a concurrent archive moved the row to the archived partition first.
      *
      * @param id The ID of the news item to archive.
      * @throws EntityNotFoundException if the news item is not found.
      */
     @Override
-    @Transactional
     public void archive(Long id) {
-        News news = newsRepository.findById(id).orElseThrow(
-                () -> EntityNotFoundException.of(News.class, id)
-        );
-        news.setArchived(true);
-        newsRepository.save(news);
+        retryingMovedRows(() -> transactionTemplate.execute(status -> {
+            News news = newsRepository.findById(id).orElseThrow(
+                    () -> EntityNotFoundException.of(News.class, id)
+            );
+            if (!news.isArchived()) {
+                newsCounts.archived();
+            }
+            news.setArchived(true);
+            newsRepository.save(news);
+            eventPublisher.publishEvent(NewsChangedEvent.archived(id));
+            return null;
+        }));
     }
 
     /**
-     * Searches for news based on a search value with boosted fields without using Stream.
-     * Uses Hibernate Search to perform a search and maps the results to {@link NewsResponse} objects.
+     * Archives the live news among the given IDs.
+     * The IDs are archived in chunks, each with a single {@code UPDATE} in its own transaction,
+     * so a large request neither holds its row locks until the end nor is rolled back as a whole;
+     * the caches drop every chunk once it commits.
      *
-     * @param searchValue The value to search for in the "title" and "text" fields.
+     * @param ids the IDs of the news to archive.
+     * @return the IDs of the archived news; missing and already archived IDs are left out.
+     */
+    @Override
+    public List<Long> archiveAll(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        List<Long> archivedIds = new ArrayList<>();
+        for (int from = 0; from < distinctIds.size(); from += ARCHIVE_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(distinctIds.size(), from + ARCHIVE_CHUNK_SIZE));
+            archivedIds.addAll(archiveChunk(() -> newsRepository.archiveAllById(chunk)));
+        }
+        return archivedIds;
+    }
+
+    /**
+     * Archives the live news published in a time range.
+     * The range is archived in chunks of the lowest IDs, each with a single {@code UPDATE} in its own transaction,
+     * until a chunk comes back incomplete.
+     *
+     * @param from the start of the range, inclusive.
+     * @param to   the end of the range, exclusive.
+     * @return the IDs of the archived news.
+     * @throws IllegalArgumentException if the range is empty.
+     */
+    @Override
+    public List<Long> archiveBetween(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("The start of the range must be before its end");
+        }
+        List<Long> archivedIds = new ArrayList<>();
+        List<Long> chunk;
+        do {
+            chunk = archiveChunk(() -> newsRepository.archiveChunkBetween(from, to, ARCHIVE_CHUNK_SIZE));
+            archivedIds.addAll(chunk);
+        } while (chunk.size() == ARCHIVE_CHUNK_SIZE);
+        return archivedIds;
+    }
+
+    /**
+     * Searches the live news for a search value with boosted fields.
+     * Archived news are excluded by a filter clause of the Lucene query, so every page is full.
+     * The hits are built from the fields stored in the index, so a search never reaches the database,
+     * and pages are served from the {@link SearchResultCache} until the index changes.
+     *
+     * @param searchValue The value to search for in the "title", "text" and author name fields.
      * @param offset      The offset for pagination.
      * @param limit       The maximum number of results to fetch.
-     * @return A List of {@link NewsResponse} objects representing the search results.
+     * @return A {@link SearchResponse} with the found news and the total number of hits.
+     */
+    @Override
+    public SearchResponse<NewsResponse> search(String searchValue, Integer offset, Integer limit) {
+        return searchResults.get(searchValue, "offset:" + offset + ":" + limit,
+                () -> searchPage(searchValue, offset, limit));
+    }
+
+    /**
+     * Searches the live news for a search value, one page after the cursor, in the order of
+     * {@link #search(String, Integer, Integer)}: by relevance, then by ID.
+     * The position of the last hit is matched in the Lucene query itself, so a deep page costs as much as the first
+     * instead of collecting and skipping every hit before it. One hit more than requested is read to learn
+     * whether a next page exists without counting. Pages are served from the {@link SearchResultCache}
+     * until the index changes.
+     *
+     * <p>Scores depend on the whole index, so a change to the index between two pages may shift hits across them.
+     *
+     * @param searchValue the value to search for in the "title", "text" and author name fields.
+     * @param cursor      the token returned with the previous page, {@code null} for the first page.
+     * @param limit       the maximum number of news items on the page.
+     * @return a {@link CursorPage} with the found news and the cursor of the next page.
+     * @throws IllegalArgumentException if the cursor is malformed.
      */
     @Override
-    public List<NewsResponse> search(String searchValue, Integer offset, Integer limit) {
+    public CursorPage<NewsResponse> searchByCursor(String searchValue, String cursor, int limit) {
+        String position = cursor == null || cursor.isBlank() ? "" : cursor;
+        return searchResults.get(searchValue, "cursor:" + position + ":" + limit,
+                () -> searchPageByCursor(searchValue, position, limit));
+    }
+
+    /**
+     * Runs the search of {@link #search(String, Integer, Integer)} against the index.
+     */
+    private SearchResponse<NewsResponse> searchPage(String searchValue, Integer offset, Integer limit) {
         SearchSession searchSession = Search.session(entityManager);
 
-        SearchResult<News> searchResult = searchSession.search(News.class)
-                .where(comment -> comment
+        SearchResult<NewsResponse> searchResult = searchSession.search(News.class)
+                .select(NewsServiceImpl::searchHit)
+                .where(news -> news
                         .bool()
-                        .with(b -> {
-                            b.must(comment.matchAll());
-                            b.must(comment.match()
-                                    .field(FIELD_TITLE)
-                                    .boost(TITLE_BOOST_FACTOR)
-                                    .field(FIELD_TEXT)
-                                    .boost(TEXT_BOOST_FACTOR)
-                                    .field(FIELD_USERNAME)
-                                    .boost(USERNAME_BOOST_FACTOR)
-                                    .matching(searchValue));
-                        }))
-                .sort(SearchSortFactory::score)
+                        .must(news.match()
+                                .field(FIELD_TITLE)
+                                .boost(TITLE_BOOST_FACTOR)
+                                .field(FIELD_TEXT)
+                                .boost(TEXT_BOOST_FACTOR)
+                                .field(FIELD_USERNAME)
+                                .boost(USERNAME_BOOST_FACTOR)
+                                .matching(searchValue))
+                        .filter(news.match()
+                                .field(FIELD_ARCHIVED)
+                                .matching(false)))
+                .sort(news -> news.score().then().field(NewsLuceneQueries.FIELD_ID_SORT).asc())
                 .fetch(offset, limit);
-        List<News> commentAllList = searchResult.hits();
-        List<News> result = commentAllList.stream().filter(news -> !news.isArchived()).toList();
 
-        return newsMapper.toViewModelList(result);
+        return new SearchResponse<>(searchResult.hits(), searchResult.total().hitCount(), offset, limit);
+    }
+
+    /**
+     * Runs the search of {@link #searchByCursor(String, String, int)} against the index, the cursor being empty
+     * for the first page.
+     */
+    private CursorPage<NewsResponse> searchPageByCursor(String searchValue, String cursor, int limit) {
+        Query match = luceneQueries.match(searchValue, BOOSTED_FIELDS);
+        if (match == null) {
+            return new CursorPage<>(new ArrayList<>(), null);
+        }
+        Query query = cursor.isEmpty()
+                ? match
+                : luceneQueries.after(match, SearchCursor.decode(cursor));
+
+        List<ScoredHit> hits = Search.session(entityManager).search(News.class)
+                .select(news -> news.composite()
+                        .from(news.score().toProjection(), searchHit(news).toProjection())
+                        .as(ScoredHit::new))
+                .where(news -> news
+                        .bool()
+                        .must(news.extension(LuceneExtension.get()).fromLuceneQuery(query))
+                        .filter(news.match()
+                                .field(FIELD_ARCHIVED)
+                                .matching(false)))
+                .sort(news -> news.score().then().field(NewsLuceneQueries.FIELD_ID_SORT).asc())
+                .fetchHits(limit + 1);
+
+        String nextCursor = null;
+        if (hits.size() > limit) {
+            hits = hits.subList(0, limit);
+            ScoredHit last = hits.get(limit - 1);
+            nextCursor = new SearchCursor(last.score(), last.news().id()).encode();
+        }
+        return new CursorPage<>(hits.stream().map(ScoredHit::news).collect(Collectors.toCollection(ArrayList::new)),
+                nextCursor);
+    }
+
+    /**
+     * Projects a search hit from the fields stored in the index.
+     */
+    private static ProjectionFinalStep<NewsResponse> searchHit(SearchProjectionFactory<?, ?> news) {
+        return news.composite()
+                .from(news.id(Long.class),
+                        news.field(FIELD_TIME, LocalDateTime.class),
+                        news.field(FIELD_TITLE, String.class),
+                        news.field(FIELD_TEXT, String.class),
+                        news.field(FIELD_USER_ID, Long.class),
+                        news.field(FIELD_USER_UUID, UUID.class),
+                        news.field(FIELD_USERNAME, String.class))
+                .asList(NewsServiceImpl::toSearchHit);
+    }
+
+    /**
+     * Builds a search hit from the fields projected by {@link #searchHit(SearchProjectionFactory)}, in their order.
+     */
+    private static NewsResponse toSearchHit(List<?> fields) {
+        return new NewsResponse((Long) fields.get(0), (LocalDateTime) fields.get(1), (String) fields.get(2),
+                (String) fields.get(3), (Long) fields.get(4), (UUID) fields.get(5), (String) fields.get(6));
+    }
+
+    /**
+     * Runs one archiving statement in its own transaction, moving the counters and announcing the archived IDs in it.
+     */
+    private List<Long> archiveChunk(Supplier<List<Long>> update) {
+        List<Long> archivedIds = retryingMovedRows(() -> transactionTemplate.execute(status -> {
+            List<Long> updated = update.get();
+            if (!updated.isEmpty()) {
+                newsCounts.archived(updated.size());
+                eventPublisher.publishEvent(new NewsArchivedBatchEvent(updated));
+            }
+            return updated;
+        }));
+        return archivedIds == null ? List.of() : archivedIds;
+    }
+
+    /**
+     * Runs an archiving transaction again when a concurrent archive moved one of its rows to the archived partition
+     * first, which PostgreSQL reports as a serialization failure. The next attempt sees the row archived and skips it.
+     */
+    private static <T> T retryingMovedRows(Supplier<T> transaction) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.get();
+            } catch (ConcurrencyFailureException e) {
+                if (attempt == ARCHIVE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Validates a batch item, its author included, and describes what is wrong with it.
+     */
+    private String validate(NewsRequest newsDto) {
+        if (newsDto == null) {
+            return "news must not be null";
+        }
+        Stream<String> errors = validator.validate(newsDto).stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage());
+        if (newsDto.user() != null) {
+            errors = Stream.concat(errors, validator.validate(newsDto.user()).stream()
+                    .map(violation -> "user." + violation.getPropertyPath() + " " + violation.getMessage()));
+        }
+        String error = errors.sorted().collect(Collectors.joining(", "));
+        return error.isEmpty() ? null : error;
+    }
+
+    /**
+     * Reads a listing page straight into responses with one joined query.
+     * The content is copied into a plain list, which every cache serializer can restore.
+     * Outside the {@link CountMode#EXACT} mode the page is read as a slice, without the {@code COUNT(*)};
+     * an estimated number of pages is raised to cover the pages known to exist.
+     */
+    private PaginationResponse<NewsResponse> listing(boolean archived, int pageSize, int numberPage) {
+        PageRequest pageRequest = PageRequest.of(numberPage - 1, pageSize);
+        PaginationResponse<NewsResponse> paginationResponse = new PaginationResponse<>();
+        paginationResponse.setPageNumber(numberPage);
+        CountMode countMode = newsCounts.mode();
+
+        if (countMode == CountMode.EXACT) {
+            Page<NewsResponse> pageNews = newsRepository.findResponsePage(archived, pageRequest);
+            paginationResponse.setCountPage(pageNews.getTotalPages());
+            paginationResponse.setContent(new ArrayList<>(pageNews.getContent()));
+            return paginationResponse;
+        }
+
+        Slice<NewsResponse> sliceNews = newsRepository.findResponseSlice(archived, pageRequest);
+        if (countMode == CountMode.NONE) {
+            paginationResponse.setCountPage(UNKNOWN_COUNT_PAGE);
+            paginationResponse.setHasNext(sliceNews.hasNext());
+        } else {
+            long count = newsCounts.count(archived);
+            int countPage = (int) Math.min(Integer.MAX_VALUE, (count + pageSize - 1) / pageSize);
+            if (sliceNews.hasContent()) {
+                countPage = Math.max(countPage, sliceNews.hasNext() ? numberPage + 1 : numberPage);
+            }
+            paginationResponse.setCountPage(countPage);
+        }
+        paginationResponse.setContent(new ArrayList<>(sliceNews.getContent()));
+        return paginationResponse;
+    }
+
+    /**
+     * Reads one item more than requested to learn whether a next page exists without counting.
+     */
+    private CursorPage<NewsResponse> pageByCursor(boolean archived, String cursor, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit + 1);
+        List<NewsResponse> news;
+        if (cursor == null || cursor.isBlank()) {
+            news = newsRepository.findFirstByCursor(archived, pageRequest);
+        } else {
+            NewsCursor position = NewsCursor.decode(cursor);
+            news = newsRepository.findNextByCursor(archived, position.time(), position.id(), pageRequest);
+        }
+
+        String nextCursor = null;
+        if (news.size() > limit) {
+            news = news.subList(0, limit);
+            NewsResponse last = news.get(limit - 1);
+            nextCursor = new NewsCursor(last.time(), last.id()).encode();
+        }
+        return new CursorPage<>(new ArrayList<>(news), nextCursor);
+    }
+
+    /**
+     * A search hit with its score, the first half of its cursor.
+     */
+    private record ScoredHit(float score, NewsResponse news) {
     }
 }
@@ -4,10 +4,14 @@ package ru.clevertec.news.service;
 import ru.clevertec.news.entity.User;
 import ru.clevertec.news.entity.dto.UserRequest;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserService {
     User create(UserRequest userRequest);
     Optional<User> getByUuiD(UUID uuid);
+    User getOrCreate(UserRequest userRequest);
+    Map<UUID, User> getOrCreateAll(Collection<UserRequest> userRequests);
 }
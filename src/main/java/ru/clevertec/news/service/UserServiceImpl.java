@@ -2,18 +2,33 @@ package ru.clevertec.news.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.clevertec.news.cache.LruMap;
 import ru.clevertec.news.entity.User;
 import ru.clevertec.news.entity.dto.UserRequest;
 import ru.clevertec.news.mapper.UserMapper;
 import ru.clevertec.news.repository.UserRepository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * Service implementation for user-related operations.
  * This class provides methods to create users and retrieve them by UUID.
  *
+ * <p>Authors resolved on the create paths are remembered in a bounded in-process map by UUID, so posts of known
+ * authors need no query for them at all. Users are never changed nor deleted, so an entry never goes stale;
+ * a user created by a transaction is remembered only once that transaction commits.
+ *
  * @author Sergey Leshkevich
  * @version 1.0
  */
@@ -21,8 +36,11 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
+    private static final int AUTHOR_CACHE_CAPACITY = 10_000;
+
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final LruMap<UUID, User> authors = new LruMap<>(AUTHOR_CACHE_CAPACITY);
 
     /**
      * Creates a new user in the repository.
@@ -46,4 +64,91 @@ public class UserServiceImpl implements UserService {
     public Optional<User> getByUuiD(UUID uuid) {
         return userRepository.findByUuid(uuid);
     }
+
+    /**
+     * Resolves the author of a news item: from the in-process map if it is known,
+     * otherwise with one upsert that creates the user or returns the existing one.
+     *
+     * @param userRequest the DTO of the author.
+     * @return the user, detached when it comes from the map.
+     */
+    public User getOrCreate(UserRequest userRequest) {
+        User known = authors.get(userRequest.uuid());
+        if (known != null) {
+            return copyOf(known);
+        }
+        User user = userRepository.upsert(userRequest.uuid(), userRequest.userName());
+        remember(List.of(user));
+        return user;
+    }
+
+    /**
+     * Resolves the users of a batch: the ones in the in-process map need no query, the other known ones are
+     * found with a single query, the rest are upserted with a single statement, so a concurrent first post
+     * of the same author yields the existing user rather than a unique-constraint failure.
+     * When a UUID occurs several times, the first request with that UUID names the new user.
+     *
+     * @param userRequests the DTOs of the users to resolve.
+     * @return the users by UUID.
+     */
+    public Map<UUID, User> getOrCreateAll(Collection<UserRequest> userRequests) {
+        Map<UUID, UserRequest> requested = new LinkedHashMap<>();
+        userRequests.forEach(userRequest -> requested.putIfAbsent(userRequest.uuid(), userRequest));
+
+        Map<UUID, User> users = new HashMap<>();
+        Set<UUID> unknown = new LinkedHashSet<>();
+        requested.keySet().forEach(uuid -> {
+            User known = authors.get(uuid);
+            if (known != null) {
+                users.put(uuid, copyOf(known));
+            } else {
+                unknown.add(uuid);
+            }
+        });
+        if (unknown.isEmpty()) {
+            return users;
+        }
+
+        List<User> found = userRepository.findAllByUuidIn(unknown);
+        found.forEach(user -> users.put(user.getUuid(), user));
+
+        List<UUID> missingUuids = new ArrayList<>();
+        List<String> missingNames = new ArrayList<>();
+        unknown.forEach(uuid -> {
+            if (!users.containsKey(uuid)) {
+                missingUuids.add(uuid);
+                missingNames.add(requested.get(uuid).userName());
+            }
+        });
+        List<User> created = missingUuids.isEmpty()
+                ? List.of()
+                : userRepository.upsertAll(missingUuids.toArray(UUID[]::new), missingNames.toArray(String[]::new));
+        created.forEach(user -> users.put(user.getUuid(), user));
+
+        remember(found);
+        remember(created);
+        return users;
+    }
+
+    /**
+     * Puts resolved users into the map, after the current transaction commits if there is one,
+     * so that a rolled back insert never leaves the ID of a missing user behind.
+     */
+    private void remember(List<User> users) {
+        List<User> snapshots = users.stream().map(UserServiceImpl::copyOf).toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            snapshots.forEach(user -> authors.put(user.getUuid(), user));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                snapshots.forEach(user -> authors.put(user.getUuid(), user));
+            }
+        });
+    }
+
+    private static User copyOf(User user) {
+        return new User(user.getId(), user.getUuid(), user.getUserName());
+    }
 }
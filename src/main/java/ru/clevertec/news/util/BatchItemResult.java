@@ -0,0 +1,35 @@
+package ru.clevertec.news.util;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+
+/**
+ * Outcome of one item of a batch request, reported at the position of the item in the request.
+ *
+ * @param index  the position of the item in the request, starting at 0.
+ * @param status whether the item was created.
+ * @param item   the created resource, {@code null} if the item was rejected.
+ * @param error  why the item was rejected, {@code null} if it was created.
+ * @param <T>    the type of the created resource.
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResult<T>(int index, Status status, T item, String error) implements Serializable {
+
+    public static <T> BatchItemResult<T> created(int index, T item) {
+        return new BatchItemResult<>(index, Status.CREATED, item, null);
+    }
+
+    public static <T> BatchItemResult<T> rejected(int index, String error) {
+        return new BatchItemResult<>(index, Status.REJECTED, null, error);
+    }
+
+    /**
+     * Outcomes of a batch item.
+     */
+    public enum Status {
+        CREATED, REJECTED
+    }
+}
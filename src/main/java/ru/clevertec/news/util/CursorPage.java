@@ -0,0 +1,16 @@
+package ru.clevertec.news.util;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Page of a listing read by cursor.
+ *
+ * @param content    the items of the page.
+ * @param nextCursor the token to pass to get the next page, {@code null} on the last page.
+ * @param <T>        the type of the items.
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public record CursorPage<T>(List<T> content, String nextCursor) implements Serializable {
+}
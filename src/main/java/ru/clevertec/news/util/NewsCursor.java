@@ -0,0 +1,57 @@
+package ru.clevertec.news.util;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Position in a news listing ordered by {@code (time desc, id desc)}: the time and ID of the last item returned.
+ * Clients receive it as an opaque URL-safe token.
+ *
+ * @param time the creation time of the last item.
+ * @param id   the ID of the last item.
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public record NewsCursor(LocalDateTime time, Long id) {
+
+    private static final byte VERSION = 1;
+    private static final int LENGTH = 1 + Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    /**
+     * Encodes the cursor into a token.
+     *
+     * @return the token.
+     */
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH)
+                .put(VERSION)
+                .putLong(time.toEpochSecond(ZoneOffset.UTC))
+                .putInt(time.getNano())
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token the token.
+     * @return the cursor.
+     * @throws IllegalArgumentException if the token is malformed.
+     */
+    public static NewsCursor decode(String token) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(token));
+            if (buffer.remaining() != LENGTH || buffer.get() != VERSION) {
+                throw new IllegalArgumentException("Malformed cursor: " + token);
+            }
+            LocalDateTime time = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            return new NewsCursor(time, buffer.getLong());
+        } catch (BufferUnderflowException | DateTimeException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + token, e);
+        }
+    }
+}
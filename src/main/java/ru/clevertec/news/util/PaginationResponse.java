@@ -1,17 +1,31 @@
 package ru.clevertec.news.util;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.util.List;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-public class PaginationResponse<T> {
+public class PaginationResponse<T> implements Serializable {
 
     private int pageNumber;
     private int countPage;
     private List<T> content;
+
+    /**
+     * Whether a next page exists, reported only when the number of pages is not counted.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean hasNext;
+
+    public PaginationResponse(int pageNumber, int countPage, List<T> content) {
+        this.pageNumber = pageNumber;
+        this.countPage = countPage;
+        this.content = content;
+    }
 }
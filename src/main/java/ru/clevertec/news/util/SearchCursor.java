@@ -0,0 +1,56 @@
+package ru.clevertec.news.util;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Position in full-text search results ordered by {@code (score desc, id asc)}: the score and ID of the last hit
+ * returned. Clients receive it as an opaque URL-safe token.
+ *
+ * @param score the score of the last hit.
+ * @param id    the ID of the last hit.
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public record SearchCursor(float score, long id) {
+
+    private static final byte VERSION = 1;
+    private static final int LENGTH = 1 + Float.BYTES + Long.BYTES;
+
+    /**
+     * Encodes the cursor into a token.
+     *
+     * @return the token.
+     */
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH)
+                .put(VERSION)
+                .putFloat(score)
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token the token.
+     * @return the cursor.
+     * @throws IllegalArgumentException if the token is malformed.
+     */
+    public static SearchCursor decode(String token) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(token));
+            if (buffer.remaining() != LENGTH || buffer.get() != VERSION) {
+                throw new IllegalArgumentException("Malformed cursor: " + token);
+            }
+            float score = buffer.getFloat();
+            if (Float.isNaN(score)) {
+                throw new IllegalArgumentException("Malformed cursor: " + token);
+            }
+            return new SearchCursor(score, buffer.getLong());
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + token, e);
+        }
+    }
+}
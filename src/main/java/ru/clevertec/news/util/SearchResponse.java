@@ -0,0 +1,18 @@
+package ru.clevertec.news.util;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Page of full-text search results.
+ *
+ * @param content   the hits of the page, best match first.
+ * @param totalHits the number of hits of the query over all pages.
+ * @param offset    the number of hits skipped before the page.
+ * @param limit     the maximum number of hits on the page.
+ * @param <T>       the type of the hits.
+ * @author Sergey Leshkevich
+ * @version 1.0
+ */
+public record SearchResponse<T>(List<T> content, long totalHits, int offset, int limit) implements Serializable {
+}
@@ -0,0 +1,91 @@
+package ru.clevertec.news.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import ru.clevertec.exceptionhandlerstarter.exception.EntityNotFoundException;
+import ru.clevertec.news.config.NewsCacheProperties;
+import ru.clevertec.news.entity.News;
+import ru.clevertec.news.repository.NewsRepository;
+import ru.clevertec.news.service.NewsService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmUpTest {
+
+    @Mock
+    private NewsService newsService;
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @Spy
+    private NewsCacheProperties properties = new NewsCacheProperties();
+
+    @InjectMocks
+    private CacheWarmUp cacheWarmUp;
+
+    @Test
+    void shouldLoadRecentNewsAndFirstPages() {
+        // given
+        NewsCacheProperties.WarmUp settings = warmUpSettings(Duration.ofSeconds(5));
+        when(newsRepository.findRecentLiveIds(PageRequest.of(0, 3))).thenReturn(List.of(5L, 4L, 3L));
+        when(newsService.get(4L)).thenThrow(EntityNotFoundException.of(News.class, 4L));
+
+        // when
+        int loaded = cacheWarmUp.warmUp(settings);
+
+        // then
+        assertThat(loaded).isEqualTo(4);
+        verify(newsService).get(5L);
+        verify(newsService).get(3L);
+        verify(newsService).getAll(15, 1);
+        verify(newsService).getAll(15, 2);
+    }
+
+    @Test
+    void shouldStopWhenBudgetRunsOut() {
+        // given
+        NewsCacheProperties.WarmUp settings = warmUpSettings(Duration.ofMillis(100));
+        settings.setRecentNews(0);
+        settings.setParallelism(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(newsService.getAll(15, 1)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+
+        // when
+        long start = System.nanoTime();
+        int loaded = cacheWarmUp.warmUp(settings);
+
+        // then
+        assertThat(loaded).isZero();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        verify(newsService, never()).getAll(15, 2);
+        release.countDown();
+    }
+
+    private static NewsCacheProperties.WarmUp warmUpSettings(Duration budget) {
+        NewsCacheProperties.WarmUp settings = new NewsCacheProperties.WarmUp();
+        settings.setRecentNews(3);
+        settings.setPages(2);
+        settings.setBatchSize(2);
+        settings.setParallelism(2);
+        settings.setBudget(budget);
+        return settings;
+    }
+}
@@ -0,0 +1,126 @@
+package ru.clevertec.news.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import ru.clevertec.news.entity.dto.NewsResponse;
+import ru.clevertec.news.util.NewsResponseTestBuilder;
+import ru.clevertec.news.util.PaginationResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactCacheValueSerializerTest {
+
+    private final RedisSerializer<Object> serializer = CacheValueSerializers.forName(CacheValueSerializers.COMPACT);
+
+    @Test
+    void shouldRoundTripNewsResponse() {
+        // given
+        NewsResponse news = NewsResponseTestBuilder.aNewsResponse().build();
+
+        // when
+        Object actual = serializer.deserialize(serializer.serialize(news));
+
+        // then
+        assertThat(actual).isEqualTo(news);
+    }
+
+    @Test
+    void shouldRoundTripNewsResponseWithMissingFields() {
+        // given
+        NewsResponse news = new NewsResponse(7L, null, "title", null, null);
+
+        // when
+        Object actual = serializer.deserialize(serializer.serialize(news));
+
+        // then
+        assertThat(actual).isEqualTo(news);
+    }
+
+    @Test
+    void shouldWriteNewsResponseSmallerThanJdkSerialization() {
+        // given
+        NewsResponse news = NewsResponseTestBuilder.aNewsResponse().build();
+
+        // when
+        byte[] compact = serializer.serialize(news);
+        byte[] jdk = new JdkSerializationRedisSerializer().serialize(news);
+
+        // then
+        assertThat(compact[0]).isEqualTo(CompactCacheValueSerializer.FORMAT_NEWS);
+        assertThat(compact.length).isLessThan(jdk.length / 4);
+    }
+
+    @Test
+    void shouldFallBackToJsonForOtherValues() {
+        // given
+        PaginationResponse<NewsResponse> page = new PaginationResponse<>(1, 1,
+                new ArrayList<>(List.of(NewsResponseTestBuilder.aNewsResponse().build())));
+
+        // when
+        byte[] bytes = serializer.serialize(page);
+        Object actual = serializer.deserialize(bytes);
+
+        // then
+        assertThat(bytes[0]).isEqualTo(CompactCacheValueSerializer.FORMAT_JSON);
+        assertThat(actual).isEqualTo(page);
+    }
+
+    @Test
+    void shouldRejectJsonNamingTypeThatIsNotCached() {
+        // given
+        byte[] bytes = "{\"@class\":\"java.lang.ProcessBuilder\",\"command\":[\"id\"]}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        // when, then
+        assertThatThrownBy(() -> CacheValueSerializers.json().deserialize(bytes))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("java.lang.ProcessBuilder");
+    }
+
+    @Test
+    void shouldRoundTripCachedValueEnvelope() {
+        // given
+        CachedValue<NewsResponse> entry = new CachedValue<>(NewsResponseTestBuilder.aNewsResponse().build(),
+                42L, 1_700_000_000_000L);
+
+        // when
+        byte[] bytes = serializer.serialize(entry);
+        Object actual = serializer.deserialize(bytes);
+
+        // then
+        assertThat(bytes[0]).isEqualTo(CompactCacheValueSerializer.FORMAT_ENTRY);
+        assertThat(actual).isEqualTo(entry);
+    }
+
+    @Test
+    void shouldReadValuesWrittenByJdkSerialization() {
+        // given
+        NewsResponse news = NewsResponseTestBuilder.aNewsResponse().build();
+        byte[] legacy = new JdkSerializationRedisSerializer().serialize(news);
+
+        // when
+        Object actual = serializer.deserialize(legacy);
+
+        // then
+        assertThat(actual).isEqualTo(news);
+    }
+
+    @Test
+    void shouldRejectUnknownVersion() {
+        // given
+        byte[] bytes = serializer.serialize(NewsResponseTestBuilder.aNewsResponse().build());
+        bytes[1] = 99;
+
+        // when, then
+        assertThatThrownBy(() -> serializer.deserialize(bytes))
+                .isInstanceOf(SerializationException.class)
+                .hasMessage("Unsupported news cache format version: 99");
+    }
+}
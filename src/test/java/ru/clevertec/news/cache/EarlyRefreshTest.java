@@ -0,0 +1,107 @@
+package ru.clevertec.news.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EarlyRefreshTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EarlyRefresh<Long, String> earlyRefresh =
+            new EarlyRefresh<>("api-cache", Duration.ofMinutes(10), 1.0, Runnable::run, meterRegistry);
+    private final Map<Long, CachedValue<String>> stored = new HashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void shouldLoadMissingEntrySynchronously() throws Throwable {
+        // when
+        String actual = earlyRefresh.get(1L, null, this::load, stored::put);
+
+        // then
+        assertThat(actual).isEqualTo("news-1");
+        assertThat(stored.get(1L).value()).isEqualTo("news-1");
+        assertThat(stored.get(1L).computeMillis()).isPositive();
+        assertThat(refreshes("sync")).isEqualTo(1.0);
+        assertThat(refreshes("early")).isZero();
+    }
+
+    @Test
+    void shouldRefreshEntryCloseToExpiryInBackground() throws Throwable {
+        // given
+        CachedValue<String> cached = new CachedValue<>("old", 600_000, System.currentTimeMillis() + 10);
+
+        // when
+        String actual = earlyRefresh.get(1L, cached, this::load, stored::put);
+
+        // then
+        assertThat(actual).isEqualTo("old");
+        assertThat(stored.get(1L).value()).isEqualTo("news-1");
+        assertThat(refreshes("early")).isEqualTo(1.0);
+        assertThat(refreshes("sync")).isZero();
+    }
+
+    @Test
+    void shouldNotRefreshEntryWrittenDirectly() throws Throwable {
+        // given
+        CachedValue<String> cached = earlyRefresh.wrap("fresh");
+
+        // when
+        String actual = earlyRefresh.get(1L, cached, this::load, stored::put);
+
+        // then
+        assertThat(actual).isEqualTo("fresh");
+        assertThat(loads).hasValue(0);
+        assertThat(stored).isEmpty();
+    }
+
+    @Test
+    void shouldLoadExpiredEntrySynchronously() throws Throwable {
+        // given
+        CachedValue<String> cached = new CachedValue<>("old", 5, System.currentTimeMillis() - 1);
+
+        // when
+        String actual = earlyRefresh.get(1L, cached, this::load, stored::put);
+
+        // then
+        assertThat(actual).isEqualTo("news-1");
+        assertThat(refreshes("sync")).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldNotStoreLoadOvertakenByWrite() throws Throwable {
+        // when
+        String actual = earlyRefresh.get(1L, null, () -> {
+            Thread writer = new Thread(() -> {
+                try {
+                    earlyRefresh.write(1L, () -> stored.put(1L, earlyRefresh.wrap("updated")));
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            writer.start();
+            writer.join();
+            return "stale";
+        }, stored::put);
+
+        // then
+        assertThat(actual).isEqualTo("stale");
+        assertThat(stored.get(1L).value()).isEqualTo("updated");
+    }
+
+    private String load() throws InterruptedException {
+        loads.incrementAndGet();
+        Thread.sleep(2);
+        return "news-1";
+    }
+
+    private double refreshes(String mode) {
+        return meterRegistry.get("news.cache.refresh").tag("mode", mode).counter().count();
+    }
+}
@@ -0,0 +1,70 @@
+package ru.clevertec.news.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdBitmapTest {
+
+    private static final int TEN_MILLION = 10_000_000;
+
+    @Test
+    void shouldSetAndClearIds() {
+        // given
+        IdBitmap bitmap = new IdBitmap(100);
+
+        // when
+        bitmap.set(0);
+        bitmap.set(63);
+        bitmap.set(64);
+        bitmap.clear(63);
+
+        // then
+        assertThat(bitmap.get(0)).isTrue();
+        assertThat(bitmap.get(63)).isFalse();
+        assertThat(bitmap.get(64)).isTrue();
+        assertThat(bitmap.get(65)).isFalse();
+        assertThat(bitmap.get(-1)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldGrowBeyondExpectedMaxId() {
+        // given
+        IdBitmap bitmap = new IdBitmap(10);
+        bitmap.set(5);
+
+        // when
+        bitmap.set(1_000_000);
+
+        // then
+        assertThat(bitmap.get(5)).isTrue();
+        assertThat(bitmap.get(1_000_000)).isTrue();
+        assertThat(bitmap.get(2_000_000)).isFalse();
+    }
+
+    @Test
+    void shouldKeepTenMillionIdsInAboutOneBitEach() {
+        // given
+        IdBitmap live = new IdBitmap(TEN_MILLION);
+        IdBitmap archived = new IdBitmap(TEN_MILLION);
+        Runtime runtime = Runtime.getRuntime();
+
+        // when
+        System.gc();
+        long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+        for (int id = 1; id <= TEN_MILLION; id++) {
+            if (id % 10 == 0) {
+                archived.set(id);
+            } else {
+                live.set(id);
+            }
+        }
+        long usedAfter = runtime.totalMemory() - runtime.freeMemory();
+
+        // then
+        assertThat(live.cardinality() + archived.cardinality()).isEqualTo(TEN_MILLION);
+        assertThat(live.sizeInBytes() + archived.sizeInBytes()).isLessThanOrEqualTo(2L * (TEN_MILLION / 8 + 8));
+        assertThat(usedAfter - usedBefore).isLessThan(64L * 1024 * 1024);
+    }
+}
@@ -0,0 +1,34 @@
+package ru.clevertec.news.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryListingGenerationsTest {
+
+    private final InMemoryListingGenerations listingGenerations = new InMemoryListingGenerations();
+
+    @Test
+    void shouldStartAtGenerationZero() {
+        // when
+        String actual = listingGenerations.pageKey(ListingGenerations.LIVE, 15, 1);
+
+        // then
+        assertThat(actual).isEqualTo("live:g0:15:1");
+    }
+
+    @Test
+    void shouldMoveEveryPageOfListingToNewKeyOnBump() {
+        // given
+        String before = listingGenerations.pageKey(ListingGenerations.LIVE, 15, 3);
+
+        // when
+        listingGenerations.bump(ListingGenerations.LIVE);
+
+        // then
+        assertThat(listingGenerations.pageKey(ListingGenerations.LIVE, 15, 3))
+                .isNotEqualTo(before)
+                .isEqualTo("live:g1:15:3");
+        assertThat(listingGenerations.current(ListingGenerations.ARCHIVE)).isZero();
+    }
+}
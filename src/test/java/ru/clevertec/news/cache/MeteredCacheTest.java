@@ -0,0 +1,83 @@
+package ru.clevertec.news.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MeteredCacheTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong sizeEvictions = new AtomicLong();
+    private final ConcurrentMapCache target = new ConcurrentMapCache("api-cache");
+    private final MeteredCache cache = new MeteredCache(target, new CacheMeters("api-cache", meterRegistry,
+            () -> target.getNativeCache().size(), sizeEvictions::get));
+    private final CacheMetricsEndpoint endpoint = new CacheMetricsEndpoint(meterRegistry);
+
+    @Test
+    void shouldCountMissAndLoadThenHit() {
+        // when
+        cache.get(1L, () -> "news");
+        cache.get(1L, () -> "other");
+
+        // then
+        CacheMetricsEndpoint.CacheStatistics statistics = endpoint.cache("api-cache");
+        assertThat(statistics.hits()).isEqualTo(1);
+        assertThat(statistics.misses()).isEqualTo(1);
+        assertThat(statistics.hitRatio()).isEqualTo(0.5);
+        assertThat(statistics.loads()).isEqualTo(1);
+        assertThat(statistics.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCountPlainLookups() {
+        // given
+        cache.put(1L, "news");
+
+        // when
+        cache.get(1L);
+        cache.get(2L);
+        cache.get(3L, String.class);
+
+        // then
+        CacheMetricsEndpoint.CacheStatistics statistics = endpoint.cache("api-cache");
+        assertThat(statistics.hits()).isEqualTo(1);
+        assertThat(statistics.misses()).isEqualTo(2);
+        assertThat(statistics.loads()).isZero();
+    }
+
+    @Test
+    void shouldCountExplicitAndSizeEvictions() {
+        // given
+        cache.put(1L, "news");
+        sizeEvictions.set(3);
+
+        // when
+        cache.evict(1L);
+        boolean present = cache.evictIfPresent(2L);
+
+        // then
+        CacheMetricsEndpoint.CacheStatistics statistics = endpoint.cache("api-cache");
+        assertThat(present).isFalse();
+        assertThat(statistics.explicitEvictions()).isEqualTo(1);
+        assertThat(statistics.sizeEvictions()).isEqualTo(3);
+        assertThat(statistics.size()).isZero();
+    }
+
+    @Test
+    void shouldListEveryMeteredCache() {
+        // given
+        new CacheMeters("news-pages", meterRegistry, () -> 0, () -> 0);
+
+        // when
+        Map<String, CacheMetricsEndpoint.CacheStatistics> caches = endpoint.caches();
+
+        // then
+        assertThat(caches).containsOnlyKeys("api-cache", "news-pages");
+    }
+}
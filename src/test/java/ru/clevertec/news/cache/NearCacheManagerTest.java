@@ -0,0 +1,133 @@
+package ru.clevertec.news.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import ru.clevertec.news.entity.dto.NewsResponse;
+import ru.clevertec.news.util.NewsResponseTestBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearCacheManagerTest {
+
+    private static final String CACHE_NAME = "api-cache";
+
+    private ConcurrentMapCacheManager sharedCacheManager;
+    private NearCacheManager firstNode;
+    private NearCacheManager secondNode;
+
+    @BeforeEach
+    void setUp() {
+        sharedCacheManager = new ConcurrentMapCacheManager(CACHE_NAME);
+        InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        firstNode = new NearCacheManager(sharedCacheManager, bus, 2, Duration.ofMinutes(1));
+        secondNode = new NearCacheManager(sharedCacheManager, bus, 2, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void shouldServeHotEntryFromLocalTierWithoutSharedCache() {
+        // given
+        NewsResponse news = NewsResponseTestBuilder.aNewsResponse().build();
+        firstNode.getCache(CACHE_NAME).put(1L, news);
+        secondNode.getCache(CACHE_NAME).get(1L);
+        sharedCacheManager.getCache(CACHE_NAME).evict(1L);
+
+        // when
+        Cache.ValueWrapper actual = secondNode.getCache(CACHE_NAME).get(1L);
+
+        // then
+        assertThat(actual).isNotNull();
+        assertThat(actual.get()).isEqualTo(news);
+    }
+
+    @Test
+    void shouldEvictLocalCopyOnOtherNodeWhenEntryIsUpdated() {
+        // given
+        NewsResponse news = NewsResponseTestBuilder.aNewsResponse().build();
+        NewsResponse updated = NewsResponseTestBuilder.aNewsResponse().withText("Update").build();
+        firstNode.getCache(CACHE_NAME).put(1L, news);
+        secondNode.getCache(CACHE_NAME).get(1L);
+
+        // when
+        firstNode.getCache(CACHE_NAME).put(1L, updated);
+
+        // then
+        assertThat(secondNode.getCache(CACHE_NAME).get(1L, NewsResponse.class)).isEqualTo(updated);
+    }
+
+    @Test
+    void shouldEvictLocalCopyOnOtherNodeWhenEntryIsArchived() {
+        // given
+        firstNode.getCache(CACHE_NAME).put(1L, NewsResponseTestBuilder.aNewsResponse().build());
+        secondNode.getCache(CACHE_NAME).get(1L);
+
+        // when
+        firstNode.getCache(CACHE_NAME).evict(1L);
+
+        // then
+        assertThat(secondNode.getCache(CACHE_NAME).get(1L)).isNull();
+        assertThat(((NearCache) secondNode.getCache(CACHE_NAME)).localSize()).isZero();
+    }
+
+    @Test
+    void shouldBoundLocalTier() {
+        // given
+        Cache cache = firstNode.getCache(CACHE_NAME);
+
+        // when
+        for (long id = 1; id <= 5; id++) {
+            cache.put(id, NewsResponseTestBuilder.aNewsResponse().withId(id).build());
+        }
+
+        // then
+        assertThat(((NearCache) cache).localSize()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldLoadValueOnceAndStoreItInSharedCache() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        NewsResponse news = NewsResponseTestBuilder.aNewsResponse().build();
+
+        // when
+        firstNode.getCache(CACHE_NAME).get(1L, () -> {
+            loads.incrementAndGet();
+            return news;
+        });
+        NewsResponse actual = secondNode.getCache(CACHE_NAME).get(1L, () -> {
+            loads.incrementAndGet();
+            return news;
+        });
+
+        // then
+        assertThat(actual).isEqualTo(news);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldNotInvalidateOtherNodesWhenFillingLoadedEntry() {
+        // given
+        List<String> published = new ArrayList<>();
+        NearCache nearCache = new NearCache(sharedCacheManager.getCache(CACHE_NAME), 2, Duration.ofMinutes(1),
+                published::add);
+        EarlyRefreshCache cache = new EarlyRefreshCache(nearCache,
+                new EarlyRefresh<>(CACHE_NAME, Duration.ofMinutes(10), 1.0, Runnable::run, new SimpleMeterRegistry()));
+        NewsResponse news = NewsResponseTestBuilder.aNewsResponse().build();
+
+        // when
+        NewsResponse loaded = cache.get(1L, () -> news);
+        cache.put(2L, news);
+
+        // then
+        assertThat(loaded).isEqualTo(news);
+        assertThat(nearCache.localSize()).isEqualTo(2);
+        assertThat(published).containsExactly("2");
+    }
+}
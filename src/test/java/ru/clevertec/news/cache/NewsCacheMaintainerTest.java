@@ -0,0 +1,92 @@
+package ru.clevertec.news.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.clevertec.news.entity.dto.NewsResponse;
+import ru.clevertec.news.event.NewsArchivedBatchEvent;
+import ru.clevertec.news.event.NewsChangedEvent;
+import ru.clevertec.news.util.NewsResponseTestBuilder;
+
+import java.util.List;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NewsCacheMaintainerTest {
+
+    @Mock
+    private NewsCache firstCache;
+
+    @Mock
+    private NewsCache secondCache;
+
+    @Mock
+    private ListingGenerations listingGenerations;
+
+    private NewsCacheMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        maintainer = new NewsCacheMaintainer(List.of(firstCache, secondCache), listingGenerations);
+    }
+
+    @Test
+    void shouldPutCreatedNewsUnderItsId() {
+        // given
+        NewsResponse news = NewsResponseTestBuilder.aNewsResponse().withId(5L).build();
+
+        // when
+        maintainer.onNewsChanged(NewsChangedEvent.created(news));
+
+        // then
+        verify(firstCache).put(5L, news);
+        verify(secondCache).put(5L, news);
+        verify(listingGenerations).bump(ListingGenerations.LIVE);
+        verify(listingGenerations, never()).bump(ListingGenerations.ARCHIVE);
+    }
+
+    @Test
+    void shouldReplaceUpdatedNews() {
+        // given
+        NewsResponse news = NewsResponseTestBuilder.aNewsResponse().withText("Update").build();
+
+        // when
+        maintainer.onNewsChanged(NewsChangedEvent.updated(news));
+
+        // then
+        verify(firstCache).put(1L, news);
+        verify(secondCache).put(1L, news);
+    }
+
+    @Test
+    void shouldEvictArchivedNews() {
+        // when
+        maintainer.onNewsChanged(NewsChangedEvent.archived(1L));
+
+        // then
+        verify(firstCache).evict(1L);
+        verify(secondCache).evict(1L);
+        verify(firstCache, never()).put(1L, null);
+        verify(listingGenerations).bump(ListingGenerations.LIVE);
+        verify(listingGenerations).bump(ListingGenerations.ARCHIVE);
+    }
+
+    @Test
+    void shouldEvictBulkArchivedNewsAndBumpListingsOnce() {
+        // when
+        maintainer.onNewsArchived(new NewsArchivedBatchEvent(List.of(1L, 2L)));
+
+        // then
+        verify(firstCache).evict(1L);
+        verify(firstCache).evict(2L);
+        verify(secondCache).evict(1L);
+        verify(secondCache).evict(2L);
+        verify(listingGenerations, times(1)).bump(ListingGenerations.LIVE);
+        verify(listingGenerations, times(1)).bump(ListingGenerations.ARCHIVE);
+    }
+}
@@ -0,0 +1,157 @@
+package ru.clevertec.news.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import ru.clevertec.news.event.NewsArchivedBatchEvent;
+import ru.clevertec.news.event.NewsChangedEvent;
+import ru.clevertec.news.util.NewsResponseTestBuilder;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NewsExistenceIndexTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryCacheInvalidationBus invalidationBus;
+    private NewsExistenceIndex index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // live 1 and 2, archived 3, nothing loaded at 4, watermark 4
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong(1)).thenReturn(1L, 2L, 3L);
+        when(resultSet.getBoolean(2)).thenReturn(false, false, true);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(4L);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (int i = 0; i < 3; i++) {
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        invalidationBus = new InMemoryCacheInvalidationBus();
+        index = new NewsExistenceIndex(jdbcTemplate, transactionManager, invalidationBus);
+        index.load();
+    }
+
+    @Test
+    void shouldRuleOutWrongStateIds() {
+        // when, then
+        assertThat(index.rulesOut(1L, false)).isFalse();
+        assertThat(index.rulesOut(1L, true)).isTrue();
+        assertThat(index.rulesOut(3L, true)).isFalse();
+        assertThat(index.rulesOut(3L, false)).isTrue();
+    }
+
+    @Test
+    void shouldNotRuleOutUnknownIdBelowWatermarkCommittedWithoutInvalidation() {
+        // given
+        long version = index.version();
+
+        // when
+        boolean ruledOutBeforeRead = index.rulesOut(4L, false);
+        index.record(4L, false, version);
+
+        // then
+        assertThat(ruledOutBeforeRead).isFalse();
+        assertThat(index.rulesOut(4L, false)).isFalse();
+        assertThat(index.rulesOut(4L, true)).isTrue();
+    }
+
+    @Test
+    void shouldNotRuleOutIdsAboveWatermark() {
+        // when, then
+        assertThat(index.rulesOut(5L, false)).isFalse();
+        assertThat(index.rulesOut(5L, true)).isFalse();
+    }
+
+    @Test
+    void shouldFallThroughWhileChangeIsUncommittedAndApplyItAfterCommit() {
+        // given
+        NewsChangedEvent event = NewsChangedEvent.archived(1L);
+
+        // when
+        index.onNewsChanging(event);
+        boolean ruledOutBeforeCommit = index.rulesOut(1L, true);
+        index.onNewsChanged(event);
+
+        // then
+        assertThat(ruledOutBeforeCommit).isFalse();
+        assertThat(index.rulesOut(1L, true)).isFalse();
+        assertThat(index.rulesOut(1L, false)).isTrue();
+    }
+
+    @Test
+    void shouldKnowNewsCreatedOnThisNode() {
+        // given
+        NewsChangedEvent event = NewsChangedEvent.created(NewsResponseTestBuilder.aNewsResponse().withId(10L).build());
+
+        // when
+        index.onNewsChanging(event);
+        index.onNewsChanged(event);
+
+        // then
+        assertThat(index.rulesOut(10L, false)).isFalse();
+        assertThat(index.rulesOut(10L, true)).isTrue();
+    }
+
+    @Test
+    void shouldFallThroughForIdChangedOnOtherNodeUntilReadAgain() {
+        // given
+        long version = index.version();
+        invalidationBus.publish(new CacheInvalidation("other-node", NewsExistenceIndex.INVALIDATION_NAME, "1"));
+
+        // when
+        index.record(1L, false, version);
+        boolean ruledOutAfterRacingRead = index.rulesOut(1L, true);
+        index.record(1L, true, index.version());
+
+        // then
+        assertThat(ruledOutAfterRacingRead).isFalse();
+        assertThat(index.rulesOut(1L, true)).isFalse();
+        assertThat(index.rulesOut(1L, false)).isTrue();
+    }
+
+    @Test
+    void shouldApplyCommittedBulkArchiveAndAnnounceEveryId() {
+        // given
+        NewsArchivedBatchEvent event = new NewsArchivedBatchEvent(List.of(1L, 2L));
+        List<CacheInvalidation> announced = new ArrayList<>();
+        invalidationBus.subscribe(announced::add);
+
+        // when
+        index.onNewsArchiving(event);
+        boolean ruledOutBeforeCommit = index.rulesOut(2L, true);
+        index.onNewsArchived(event);
+
+        // then
+        assertThat(ruledOutBeforeCommit).isFalse();
+        assertThat(index.rulesOut(1L, false)).isTrue();
+        assertThat(index.rulesOut(2L, false)).isTrue();
+        assertThat(index.rulesOut(2L, true)).isFalse();
+        assertThat(announced).extracting(CacheInvalidation::key).containsExactly("1", "2");
+    }
+}
@@ -0,0 +1,66 @@
+package ru.clevertec.news.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapByteCacheTest {
+
+    private static final long NEVER = Long.MAX_VALUE;
+
+    @Test
+    void shouldReturnStoredBytesFromDirectBuffer() {
+        // given
+        OffHeapByteCache<Long> cache = new OffHeapByteCache<>(1024);
+        cache.put(1L, "{\"id\":1}".getBytes(StandardCharsets.UTF_8), NEVER);
+
+        // when
+        ByteBuffer first = cache.get(1L);
+        ByteBuffer second = cache.get(1L);
+        byte[] bytes = new byte[first.remaining()];
+        first.get(bytes);
+
+        // then
+        assertThat(first.isDirect()).isTrue();
+        assertThat(first.isReadOnly()).isTrue();
+        assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}");
+        assertThat(second.remaining()).isEqualTo(bytes.length);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntriesToStayWithinByteBound() {
+        // given
+        OffHeapByteCache<Long> cache = new OffHeapByteCache<>(100);
+        cache.put(1L, new byte[40], NEVER);
+        cache.put(2L, new byte[40], NEVER);
+        cache.get(1L);
+
+        // when
+        cache.put(3L, new byte[40], NEVER);
+
+        // then
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(1L)).isNotNull();
+        assertThat(cache.get(3L)).isNotNull();
+        assertThat(cache.usedBytes()).isEqualTo(80);
+        assertThat(cache.evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSkipValuesLargerThanBoundAndDropExpiredEntries() {
+        // given
+        OffHeapByteCache<Long> cache = new OffHeapByteCache<>(100);
+
+        // when
+        cache.put(1L, new byte[101], NEVER);
+        cache.put(2L, new byte[10], System.currentTimeMillis() - 1);
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.usedBytes()).isZero();
+    }
+}
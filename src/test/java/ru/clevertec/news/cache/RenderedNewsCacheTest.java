@@ -0,0 +1,43 @@
+package ru.clevertec.news.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.news.config.NewsCacheProperties;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RenderedNewsCacheTest {
+
+    private static final byte[] BODY = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+
+    private final InMemoryCacheInvalidationBus invalidationBus = new InMemoryCacheInvalidationBus();
+    private final CacheNode node = new CacheNode();
+    private final RenderedNewsCache cache = new RenderedNewsCache(new NewsCacheProperties(), invalidationBus, node,
+            new SimpleMeterRegistry());
+
+    @Test
+    void shouldKeepBodyOnInvalidationSentByThisNode() {
+        // given
+        cache.store(1L, BODY, cache.version());
+
+        // when
+        invalidationBus.publish(new CacheInvalidation(node.id(), SpringNewsCache.CACHE_NAME, "1"));
+
+        // then
+        assertThat(cache.get(1L)).isNotNull();
+    }
+
+    @Test
+    void shouldEvictBodyOnInvalidationSentByOtherNode() {
+        // given
+        cache.store(1L, BODY, cache.version());
+
+        // when
+        invalidationBus.publish(new CacheInvalidation(new CacheNode().id(), SpringNewsCache.CACHE_NAME, "1"));
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+    }
+}
@@ -0,0 +1,131 @@
+package ru.clevertec.news.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>(16);
+
+    @Test
+    void shouldLoadOnceForConcurrentCallersOfSameKey() throws Exception {
+        // given
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch arrived = new CountDownLatch(callers);
+        CountDownLatch release = new CountDownLatch(1);
+        Map<Long, String> published = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> {
+                arrived.countDown();
+                try {
+                    return singleFlight.load(1L, () -> {
+                        loads.incrementAndGet();
+                        release.await();
+                        return "news";
+                    }, published::put);
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+        arrived.await();
+        TimeUnit.MILLISECONDS.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("news");
+        }
+        executor.shutdown();
+        assertThat(loads).hasValue(1);
+        assertThat(published).containsEntry(1L, "news");
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void shouldNotBlockLoadsOfDifferentKeys() throws Throwable {
+        // given
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> first = executor.submit(() -> {
+            try {
+                return singleFlight.load(1L, () -> {
+                    firstStarted.countDown();
+                    releaseFirst.await();
+                    return "first";
+                }, (k, v) -> {
+                });
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        firstStarted.await();
+
+        // when
+        String second = singleFlight.load(2L, () -> "second", (k, v) -> {
+        });
+
+        // then
+        assertThat(second).isEqualTo("second");
+        assertThat(first.isDone()).isFalse();
+        releaseFirst.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldNotPublishLoadInvalidatedByWrite() throws Throwable {
+        // given
+        Map<Long, String> published = new ConcurrentHashMap<>();
+
+        // when
+        String loaded = singleFlight.load(1L, () -> {
+            Thread writer = new Thread(() -> {
+                try {
+                    singleFlight.write(1L, () -> published.put(1L, "fresh"));
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            writer.start();
+            writer.join();
+            return "stale";
+        }, published::put);
+
+        // then
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(published).containsEntry(1L, "fresh");
+    }
+
+    @Test
+    void shouldRethrowLoaderFailureAndForgetKey() {
+        // given
+        IllegalArgumentException failure = new IllegalArgumentException("not found");
+
+        // when, then
+        assertThatThrownBy(() -> singleFlight.load(1L, () -> {
+            throw failure;
+        }, (k, v) -> {
+        })).isSameAs(failure);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+}
@@ -1,6 +1,10 @@
 package ru.clevertec.news.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -17,7 +21,7 @@ import ru.clevertec.news.util.NewsResponseTestBuilder;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
 class
@@ -29,6 +33,9 @@ NewsControllerIntegrationTest extends PostgresSQLContainerInitializer {
     @Autowired
     ObjectMapper objectMapper;
 
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
     @Test
     void shouldRetrieveNews() throws Exception {
         //given
@@ -115,6 +122,29 @@ NewsControllerIntegrationTest extends PostgresSQLContainerInitializer {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    void shouldRetrieveAllNewsPageByPageWithCursor() throws Exception {
+        //when
+        MvcResult first = mockMvc.perform(MockMvcRequestBuilders.get("/news/cursor")
+                        .param("limit", "1")
+                        .contentType("application/json"))
+                .andReturn();
+        JsonNode firstPage = objectMapper.readTree(first.getResponse().getContentAsString());
+        MvcResult second = mockMvc.perform(MockMvcRequestBuilders.get("/news/cursor")
+                        .param("limit", "1")
+                        .param("cursor", firstPage.get("nextCursor").asText())
+                        .contentType("application/json"))
+                .andReturn();
+        JsonNode secondPage = objectMapper.readTree(second.getResponse().getContentAsString());
+
+        //then
+        assertThat(first.getResponse().getStatus()).isEqualTo(200);
+        assertThat(firstPage.get("content").get(0).get("id").asLong()).isEqualTo(2L);
+        assertThat(second.getResponse().getStatus()).isEqualTo(200);
+        assertThat(secondPage.get("content").get(0).get("id").asLong()).isEqualTo(1L);
+        assertThat(secondPage.get("nextCursor").isNull()).isTrue();
+    }
+
     @Test
     void shouldCreateNewNews() throws Exception {
         //given
@@ -179,13 +209,15 @@ NewsControllerIntegrationTest extends PostgresSQLContainerInitializer {
     }
 
     @Test
-    void shouldRetrieveAllFoundNews() throws Exception {
+    void shouldRetrieveFoundLiveNewsWithTotalHits() throws Exception {
         //given
-        String expected = "[{\"id\":1,\"time\":\"2024-01-01T14:18:08.537\",\"title\":\"Test news title\",\"text\":" +
+        String expected = "{\"content\":[{\"id\":1,\"time\":\"2024-01-01T14:18:08.537\"," +
+                "\"title\":\"Test news title\",\"text\":" +
                 "\"Test news text\",\"user\":{\"id\":1,\"uuid\":\"0bdc4d34-af90-4b42-bba6-f588323c87d7\"," +
                 "\"userName\":\"Test userName comment\"}},{\"id\":2,\"time\":\"2024-01-01T14:18:08.537\",\"title\":" +
                 "\"Test news title2\",\"text\":\"Test news text2\",\"user\":{\"id\":1,\"uuid\":" +
-                "\"0bdc4d34-af90-4b42-bba6-f588323c87d7\",\"userName\":\"Test userName comment\"}}]";
+                "\"0bdc4d34-af90-4b42-bba6-f588323c87d7\",\"userName\":\"Test userName comment\"}}]," +
+                "\"totalHits\":2,\"offset\":0,\"limit\":10}";
 
         //when
         MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/news/search")
@@ -200,4 +232,54 @@ NewsControllerIntegrationTest extends PostgresSQLContainerInitializer {
         assertThat(result.getResponse().getStatus()).isEqualTo(200);
         assertThat(actual).isEqualTo(expected);
     }
+
+    @Test
+    void shouldBuildFoundNewsFromIndexWithoutDatabaseStatements() throws Exception {
+        //given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/news/search")
+                        .param("search", "Test news text2")
+                        .param("offset", "0")
+                        .param("limit", "1")
+                        .contentType("application/json"))
+                .andReturn();
+        JsonNode hit = objectMapper.readTree(result.getResponse().getContentAsString()).get("content").get(0);
+
+        //then
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        assertThat(hit.get("id").asLong()).isEqualTo(2L);
+        assertThat(hit.get("user").get("userName").asText()).isEqualTo("Test userName comment");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void shouldRetrieveFoundLiveNewsPageByPageWithCursor() throws Exception {
+        //when
+        MvcResult first = mockMvc.perform(MockMvcRequestBuilders.get("/news/search/cursor")
+                        .param("search", "Test news text")
+                        .param("limit", "1")
+                        .contentType("application/json"))
+                .andReturn();
+        JsonNode firstPage = objectMapper.readTree(first.getResponse().getContentAsString());
+        MvcResult second = mockMvc.perform(MockMvcRequestBuilders.get("/news/search/cursor")
+                        .param("search", "Test news text")
+                        .param("limit", "1")
+                        .param("cursor", firstPage.get("nextCursor").asText())
+                        .contentType("application/json"))
+                .andReturn();
+        JsonNode secondPage = objectMapper.readTree(second.getResponse().getContentAsString());
+
+        //then
+        assertThat(first.getResponse().getStatus()).isEqualTo(200);
+        assertThat(firstPage.get("content")).hasSize(1);
+        assertThat(firstPage.get("content").get(0).get("id").asLong()).isEqualTo(1L);
+        assertThat(second.getResponse().getStatus()).isEqualTo(200);
+        assertThat(secondPage.get("content")).hasSize(1);
+        assertThat(secondPage.get("content").get(0).get("id").asLong()).isEqualTo(2L);
+        assertThat(secondPage.get("nextCursor").isNull()).isTrue();
+    }
 }
@@ -0,0 +1,148 @@
+package ru.clevertec.news.datasource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final String SERVER_ID = "SELECT system_identifier FROM pg_control_system()";
+
+    private static final PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:13.3");
+    private static final PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:13.3");
+
+    private long primaryId;
+    private long replicaId;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeAll
+    static void startContainers() {
+        primary.start();
+        replica.start();
+    }
+
+    @AfterAll
+    static void stopContainers() {
+        primary.stop();
+        replica.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        DataSource primaryDataSource = dataSource(primary);
+        DataSource replicaDataSource = dataSource(replica);
+        primaryId = new JdbcTemplate(primaryDataSource).queryForObject(SERVER_ID, Long.class);
+        replicaId = new JdbcTemplate(replicaDataSource).queryForObject(SERVER_ID, Long.class);
+
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryDataSource, List.of(replicaDataSource), Duration.ofSeconds(5)));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        jdbcTemplate = new JdbcTemplate(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void clearRouting() {
+        ReplicaRouting.endRequest();
+    }
+
+    @Test
+    void shouldSendReadOnlyTransactionToReplica() {
+        //when
+        Long actual = readOnly.execute(status -> jdbcTemplate.queryForObject(SERVER_ID, Long.class));
+
+        //then
+        assertThat(primaryId).isNotEqualTo(replicaId);
+        assertThat(actual).isEqualTo(replicaId);
+    }
+
+    @Test
+    void shouldTellWhetherLastReadWasServedByReplica() {
+        //when
+        readOnly.execute(status -> jdbcTemplate.queryForObject(SERVER_ID, Long.class));
+        boolean afterReplicaRead = ReplicaRouting.isLastReadFromReplica();
+        readWrite.execute(status -> jdbcTemplate.queryForObject(SERVER_ID, Long.class));
+
+        //then
+        assertThat(afterReplicaRead).isTrue();
+        assertThat(ReplicaRouting.isLastReadFromReplica()).isFalse();
+    }
+
+    @Test
+    void shouldSendReadWriteTransactionAndWorkOutsideTransactionsToPrimary() {
+        //when
+        Long inTransaction = readWrite.execute(status -> jdbcTemplate.queryForObject(SERVER_ID, Long.class));
+        ReplicaRouting.clear();
+        Long outsideTransaction = jdbcTemplate.queryForObject(SERVER_ID, Long.class);
+
+        //then
+        assertThat(inTransaction).isEqualTo(primaryId);
+        assertThat(outsideTransaction).isEqualTo(primaryId);
+        assertThat(ReplicaRouting.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    void shouldKeepReadsOnPrimaryAfterWriteUntilRequestEnds() {
+        //given
+        ReplicaRouting.beginRequest();
+        readWrite.executeWithoutResult(status -> jdbcTemplate.execute("CREATE TEMPORARY TABLE marker (id int)"));
+
+        //when
+        Long afterWrite = readOnly.execute(status -> jdbcTemplate.queryForObject(SERVER_ID, Long.class));
+        ReplicaRouting.endRequest();
+        ReplicaRouting.beginRequest();
+        Long nextRequest = readOnly.execute(status -> jdbcTemplate.queryForObject(SERVER_ID, Long.class));
+
+        //then
+        assertThat(afterWrite).isEqualTo(primaryId);
+        assertThat(nextRequest).isEqualTo(replicaId);
+    }
+
+    @Test
+    void shouldClearPinWhenTransactionCompletesOutsideRequest() {
+        //given
+        readWrite.executeWithoutResult(status -> jdbcTemplate.execute("CREATE TEMPORARY TABLE marker (id int)"));
+
+        //when
+        Long afterWrite = readOnly.execute(status -> jdbcTemplate.queryForObject(SERVER_ID, Long.class));
+
+        //then
+        assertThat(ReplicaRouting.isPinnedToPrimary()).isFalse();
+        assertThat(afterWrite).isEqualTo(replicaId);
+    }
+
+    @Test
+    void shouldSendCacheFillToPrimaryRightAfterWrite() throws Throwable {
+        //given
+        readWrite.executeWithoutResult(status -> jdbcTemplate.execute("CREATE TEMPORARY TABLE marker (id int)"));
+
+        //when
+        Long cacheFill = ReplicaRouting.fillCache(
+                () -> readOnly.execute(status -> jdbcTemplate.queryForObject(SERVER_ID, Long.class)));
+
+        //then
+        assertThat(cacheFill).isEqualTo(primaryId);
+    }
+
+    private static DataSource dataSource(PostgreSQLContainer<?> container) {
+        return new DriverManagerDataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+}
@@ -0,0 +1,87 @@
+package ru.clevertec.news.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import ru.clevertec.news.cache.CacheNode;
+import ru.clevertec.news.cache.InMemoryCacheInvalidationBus;
+import ru.clevertec.news.cache.RenderedNewsCache;
+import ru.clevertec.news.config.NewsCacheProperties;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RenderedNewsFilterTest {
+
+    private static final String BODY = "{\"id\":2,\"title\":\"title\"}";
+
+    private final AtomicInteger rendered = new AtomicInteger();
+    private final RenderedNewsCache cache = new RenderedNewsCache(new NewsCacheProperties(),
+            new InMemoryCacheInvalidationBus(), new CacheNode(), new SimpleMeterRegistry());
+    private final RenderedNewsFilter filter = new RenderedNewsFilter(cache);
+
+    @Test
+    void shouldServeSecondRequestFromCachedBytes() throws Exception {
+        // given
+        MockHttpServletResponse first = perform("GET", "/news/2");
+
+        // when
+        MockHttpServletResponse second = perform("GET", "/news/2");
+
+        // then
+        assertThat(first.getContentAsString()).isEqualTo(BODY);
+        assertThat(second.getContentAsString()).isEqualTo(BODY);
+        assertThat(second.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(second.getContentLength()).isEqualTo(BODY.length());
+        assertThat(rendered).hasValue(1);
+    }
+
+    @Test
+    void shouldRenderAgainAfterEviction() throws Exception {
+        // given
+        perform("GET", "/news/2");
+        cache.evict(2L);
+
+        // when
+        MockHttpServletResponse response = perform("GET", "/news/2");
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(rendered).hasValue(2);
+    }
+
+    @Test
+    void shouldNotCacheOtherRequests() throws Exception {
+        // when
+        perform("GET", "/news/archive/2");
+        perform("GET", "/news/archive/2");
+        perform("PUT", "/news/2");
+        perform("PUT", "/news/2");
+
+        // then
+        assertThat(rendered).hasValue(4);
+        assertThat(cache.usedBytes()).isZero();
+    }
+
+    private MockHttpServletResponse perform(String method, String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                rendered.incrementAndGet();
+                resp.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                resp.getWriter().write(BODY);
+            }
+        }));
+        return response;
+    }
+}
@@ -0,0 +1,43 @@
+package ru.clevertec.news.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import ru.clevertec.news.config.PostgresSQLContainerInitializer;
+import ru.clevertec.news.entity.NewsCounter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class NewsCounterRepositoryTest extends PostgresSQLContainerInitializer {
+
+    private final NewsCounterRepository newsCounterRepository;
+
+    @Autowired
+    public NewsCounterRepositoryTest(NewsCounterRepository newsCounterRepository) {
+        this.newsCounterRepository = newsCounterRepository;
+    }
+
+    @Test
+    void shouldStartWithCountsOfExistingNews() {
+        //when
+        long live = newsCounterRepository.findById(false).map(NewsCounter::getRowCount).orElseThrow();
+        long archived = newsCounterRepository.findById(true).map(NewsCounter::getRowCount).orElseThrow();
+
+        //then
+        assertThat(live).isEqualTo(2);
+        assertThat(archived).isEqualTo(2);
+    }
+
+    @Test
+    void shouldAddDeltaToCounterOfGivenState() {
+        //when
+        int updated = newsCounterRepository.add(true, 3);
+
+        //then
+        assertThat(updated).isEqualTo(1);
+        assertThat(newsCounterRepository.findById(true).map(NewsCounter::getRowCount)).contains(5L);
+    }
+}
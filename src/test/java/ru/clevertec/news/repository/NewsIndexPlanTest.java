@@ -0,0 +1,112 @@
+package ru.clevertec.news.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.clevertec.news.config.PostgresSQLContainerInitializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class NewsIndexPlanTest extends PostgresSQLContainerInitializer {
+
+    private static final int GENERATED_NEWS = 200_000;
+    private static final long FIRST_GENERATED_ID = 1_000_000_000L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public NewsIndexPlanTest(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @BeforeEach
+    void generateNews() {
+        jdbcTemplate.update("INSERT INTO news (id, title, time, text, is_archive, user_id) "
+                + "SELECT ? + g, 'News ' || g, timestamp '2024-01-01' + g * interval '1 second', 'Text of news ' || g, "
+                + "g % 20 = 0, g % 1000 + 1 FROM generate_series(1, ?) g", FIRST_GENERATED_ID, GENERATED_NEWS);
+        jdbcTemplate.execute("ANALYZE news");
+    }
+
+    @Test
+    void shouldReadFirstLivePageFromLiveTimeIndex() {
+        //when
+        String plan = explain("SELECT id FROM news WHERE is_archive = false ORDER BY time DESC, id DESC LIMIT 16");
+
+        //then
+        assertThat(plan).contains("idx_news_live_time").doesNotContain("Seq Scan").doesNotContain("Sort");
+    }
+
+    @Test
+    void shouldSeekArchivedPageInArchivedTimeIndex() {
+        //when
+        String plan = explain("SELECT id FROM news WHERE is_archive = true "
+                + "AND (time, id) < (timestamp '2024-01-02', 100000) ORDER BY time DESC, id DESC LIMIT 16");
+
+        //then
+        assertThat(plan).contains("idx_news_archived_time").doesNotContain("Seq Scan").doesNotContain("Sort");
+    }
+
+    @Test
+    void shouldReadLiveNewsFromLivePartitionOnly() {
+        //when
+        String plan = explain("SELECT id FROM news WHERE is_archive = false ORDER BY time DESC, id DESC LIMIT 16");
+
+        //then
+        assertThat(plan).contains("news_live").doesNotContain("news_archived");
+    }
+
+    @Test
+    void shouldCountArchivedNewsInArchivedPartitionOnly() {
+        //when
+        String plan = explain("SELECT count(*) FROM news WHERE is_archive = true");
+
+        //then
+        assertThat(plan).contains("news_archived").doesNotContain("news_live");
+    }
+
+    @Test
+    void shouldFindNewsOfUserFromUserIndexOfEveryPartition() {
+        //when
+        String plan = explain("SELECT id FROM news WHERE user_id = 42");
+
+        //then
+        assertThat(plan).contains("idx_news_live_user_id").contains("idx_news_archived_user_id")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void shouldMoveArchivedNewsIntoArchivedPartition() {
+        //when
+        jdbcTemplate.update("UPDATE news SET is_archive = true WHERE id = ? AND is_archive = false",
+                FIRST_GENERATED_ID + 1);
+
+        //then
+        assertThat(jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM news WHERE id = ?",
+                String.class, FIRST_GENERATED_ID + 1)).isEqualTo("news_archived");
+    }
+
+    @Test
+    void shouldKeepPooledIdSequenceOwnedByPartitionedTable() {
+        //when
+        Long increment = jdbcTemplate.queryForObject(
+                "SELECT increment_by FROM pg_sequences WHERE sequencename = 'news_id_seq'", Long.class);
+        String owner = jdbcTemplate.queryForObject(
+                "SELECT pg_get_serial_sequence('news', 'id')", String.class);
+        String idDefault = jdbcTemplate.queryForObject("SELECT column_default FROM information_schema.columns "
+                + "WHERE table_name = 'news' AND column_name = 'id'", String.class);
+
+        //then
+        assertThat(increment).isEqualTo(50L);
+        assertThat(owner).isEqualTo("public.news_id_seq");
+        assertThat(idDefault).isEqualTo("nextval('news_id_seq'::regclass)");
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
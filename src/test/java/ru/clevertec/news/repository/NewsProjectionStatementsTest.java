@@ -0,0 +1,76 @@
+package ru.clevertec.news.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import ru.clevertec.news.config.PostgresSQLContainerInitializer;
+import ru.clevertec.news.entity.News;
+import ru.clevertec.news.entity.dto.NewsResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class NewsProjectionStatementsTest extends PostgresSQLContainerInitializer {
+
+    private final TestEntityManager testEntityManager;
+    private final NewsRepository newsRepository;
+    private final Statistics statistics;
+
+    @Autowired
+    public NewsProjectionStatementsTest(TestEntityManager testEntityManager, NewsRepository newsRepository,
+                                        EntityManagerFactory entityManagerFactory) {
+        this.testEntityManager = testEntityManager;
+        this.newsRepository = newsRepository;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    void clearPersistenceContext() {
+        testEntityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldReadSliceOfResponsesWithOneStatementAndNoEntities() {
+        //when
+        Slice<NewsResponse> actual = newsRepository.findResponseSlice(false, PageRequest.of(0, 5));
+
+        //then
+        assertThat(actual.getContent()).hasSize(2).allSatisfy(news -> assertThat(news.user()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void shouldReadCursorPageOfResponsesWithOneStatementAndNoEntities() {
+        //when
+        List<NewsResponse> actual = newsRepository.findFirstByCursor(true, PageRequest.of(0, 5));
+
+        //then
+        assertThat(actual).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void shouldLoadEntitiesAndUsersSeparatelyOnEntityReadPath() {
+        //when
+        List<News> actual = newsRepository.findAllByIsArchivedIsFalse(PageRequest.of(0, 5)).getContent();
+
+        //then
+        assertThat(actual).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isGreaterThan(1);
+        assertThat(statistics.getEntityLoadCount()).isGreaterThan(2);
+    }
+}
@@ -7,9 +7,12 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import ru.clevertec.news.config.PostgresSQLContainerInitializer;
 import ru.clevertec.news.entity.News;
+import ru.clevertec.news.entity.dto.NewsResponse;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -57,4 +60,75 @@ class NewsRepositoryTest extends PostgresSQLContainerInitializer {
         //then
         assertThat(actual.getContent()).isEqualTo(expectedList);
     }
+
+    @Test
+    void shouldReturnSliceOfNewsResponsesTellingWhetherNextSliceExists() {
+        //given
+        PageRequest pageRequest = PageRequest.of(0, 1);
+        News news = testEntityManager.find(News.class, 1L);
+        NewsResponse expected = new NewsResponse(news.getId(), news.getTime(), news.getTitle(), news.getText(),
+                news.getUser());
+
+        //when
+        Slice<NewsResponse> actual = newsRepository.findResponseSlice(false, pageRequest);
+
+        //then
+        assertThat(actual.getContent()).containsExactly(expected);
+        assertThat(actual.hasNext()).isTrue();
+    }
+
+    @Test
+    void shouldReturnPageOfArchivedNewsResponsesWithTotalCount() {
+        //when
+        Page<NewsResponse> actual = newsRepository.findResponsePage(true, PageRequest.of(0, 1));
+
+        //then
+        assertThat(actual.getContent()).extracting(NewsResponse::id).containsExactly(3L);
+        assertThat(actual.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReturnedNewsAfterCursorOrderedByTimeAndIdDescending() {
+        //given
+        News last = testEntityManager.find(News.class, 4L);
+
+        //when
+        List<NewsResponse> firstPage = newsRepository.findFirstByCursor(true, PageRequest.of(0, 1));
+        List<NewsResponse> nextPage = newsRepository.findNextByCursor(true, last.getTime(), last.getId(),
+                PageRequest.of(0, 5));
+
+        //then
+        assertThat(firstPage).extracting(NewsResponse::id).containsExactly(4L);
+        assertThat(nextPage).extracting(NewsResponse::id).containsExactly(3L);
+    }
+
+    @Test
+    void shouldArchiveOnlyLiveNewsAmongIdsAndReturnTheirIds() {
+        //when
+        List<Long> actual = newsRepository.archiveAllById(List.of(1L, 3L, 99L));
+        testEntityManager.clear();
+
+        //then
+        assertThat(actual).containsExactly(1L);
+        assertThat(testEntityManager.find(News.class, 1L).isArchived()).isTrue();
+        assertThat(testEntityManager.find(News.class, 2L).isArchived()).isFalse();
+    }
+
+    @Test
+    void shouldArchiveLiveNewsInTimeRangeChunkByChunk() {
+        //given
+        LocalDateTime from = LocalDateTime.of(1970, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2100, 1, 1, 0, 0);
+
+        //when
+        List<Long> firstChunk = newsRepository.archiveChunkBetween(from, to, 1);
+        List<Long> secondChunk = newsRepository.archiveChunkBetween(from, to, 1);
+        List<Long> thirdChunk = newsRepository.archiveChunkBetween(from, to, 1);
+
+        //then
+        assertThat(firstChunk).containsExactly(1L);
+        assertThat(secondChunk).containsExactly(2L);
+        assertThat(thirdChunk).isEmpty();
+        assertThat(newsRepository.countByIsArchived(false)).isZero();
+    }
 }
@@ -8,10 +8,12 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import ru.clevertec.news.config.PostgresSQLContainerInitializer;
 import ru.clevertec.news.entity.User;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 
 @DataJpaTest
@@ -39,4 +41,63 @@ class UserRepositoryTest extends PostgresSQLContainerInitializer {
         //then
         assertThat(actual).isEqualTo(Optional.of(user));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnedOnlyExistingUsersByUuids() {
+        //given
+        User user = testEntityManager.find(User.class, 1);
+
+        //when
+        List<User> actual = userRepository.findAllByUuidIn(List.of(user.getUuid(), UUID.randomUUID()));
+
+        //then
+        assertThat(actual).containsExactly(user);
+    }
+
+    @Test
+    void shouldReturnExistingUserOnUpsertOfKnownUuidKeepingItsName() {
+        //given
+        UUID uuid = UUID.fromString("0bdc4d34-af90-4b42-bba6-f588323c87d7");
+
+        //when
+        User actual = userRepository.upsert(uuid, "Another name");
+
+        //then
+        assertThat(actual.getId()).isEqualTo(1L);
+        assertThat(actual.getUserName()).isEqualTo("Test userName comment");
+    }
+
+    @Test
+    void shouldInsertUserOnUpsertOfUnknownUuid() {
+        //given
+        UUID uuid = UUID.randomUUID();
+
+        //when
+        User actual = userRepository.upsert(uuid, "New author");
+        testEntityManager.clear();
+
+        //then
+        assertThat(actual.getId()).isNotNull();
+        assertThat(userRepository.findByUuid(uuid)).get()
+                .extracting(User::getId, User::getUserName)
+                .containsExactly(actual.getId(), "New author");
+    }
+
+    @Test
+    void shouldInsertUnknownAndReturnKnownUsersOnUpsertAll() {
+        //given
+        UUID known = UUID.fromString("0bdc4d34-af90-4b42-bba6-f588323c87d7");
+        UUID unknown = UUID.randomUUID();
+
+        //when
+        List<User> actual = userRepository.upsertAll(new UUID[]{known, unknown},
+                new String[]{"Another name", "New author"});
+
+        //then
+        assertThat(actual)
+                .extracting(User::getUuid, User::getUserName)
+                .containsExactlyInAnyOrder(
+                        tuple(known, "Test userName comment"),
+                        tuple(unknown, "New author"));
+    }
+}
@@ -0,0 +1,56 @@
+package ru.clevertec.news.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import ru.clevertec.news.config.NewsIndexingProperties;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NewsIndexingHealthIndicatorTest {
+
+    @Mock
+    private NewsIndexingQueue indexingQueue;
+
+    private final NewsIndexingProperties properties = new NewsIndexingProperties();
+
+    @Test
+    void shouldBeUpWhileLagIsWithinMaximum() {
+        // given
+        properties.setMaxLag(Duration.ofSeconds(5));
+        when(indexingQueue.lag()).thenReturn(Duration.ofMillis(300));
+        when(indexingQueue.backlog()).thenReturn(42);
+
+        // when
+        Health health = new NewsIndexingHealthIndicator(indexingQueue, properties).health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails())
+                .containsEntry("backlog", 42)
+                .containsEntry("lagMillis", 300L)
+                .containsEntry("maxLagMillis", 5000L);
+    }
+
+    @Test
+    void shouldBeOutOfServiceOnceLagExceedsMaximum() {
+        // given
+        properties.setMaxLag(Duration.ofSeconds(5));
+        when(indexingQueue.lag()).thenReturn(Duration.ofSeconds(6));
+        when(indexingQueue.backlog()).thenReturn(10_000);
+
+        // when
+        Health health = new NewsIndexingHealthIndicator(indexingQueue, properties).health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(health.getDetails()).containsEntry("backlog", 10_000);
+    }
+}
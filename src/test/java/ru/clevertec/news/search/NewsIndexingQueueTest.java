@@ -0,0 +1,145 @@
+package ru.clevertec.news.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.clevertec.news.config.NewsIndexingProperties;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NewsIndexingQueueTest {
+
+    @Mock
+    private NewsIndexer indexer;
+
+    private final NewsIndexingProperties properties = new NewsIndexingProperties();
+
+    @Test
+    void shouldIndexRepeatedlyChangedNewsOnce() {
+        // given
+        properties.setBatchDelay(Duration.ofMillis(500));
+        NewsIndexingQueue queue = new NewsIndexingQueue(indexer, properties);
+        queue.start();
+
+        // when
+        queue.enqueue(List.of(1L, 2L));
+        queue.enqueue(List.of(2L, 1L, 3L));
+
+        // then
+        verify(indexer, timeout(5000)).index(List.of(1L, 2L, 3L));
+        queue.stop();
+        verify(indexer, times(1)).index(any());
+    }
+
+    @Test
+    void shouldIndexInBatchesOfConfiguredSize() {
+        // given
+        properties.setBatchSize(2);
+        properties.setBatchDelay(Duration.ofMinutes(1));
+        NewsIndexingQueue queue = new NewsIndexingQueue(indexer, properties);
+        queue.start();
+
+        // when
+        queue.enqueue(List.of(1L, 2L, 3L, 4L, 5L));
+        queue.stop();
+
+        // then
+        ArgumentCaptor<Collection<Long>> batches = batches();
+        verify(indexer, times(3)).index(batches.capture());
+        assertThat(batches.getAllValues()).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+    }
+
+    @Test
+    void shouldDrainWaitingNewsOnStop() {
+        // given
+        properties.setBatchDelay(Duration.ofMinutes(1));
+        NewsIndexingQueue queue = new NewsIndexingQueue(indexer, properties);
+        queue.start();
+        queue.enqueue(List.of(1L, 2L));
+        verify(indexer, never()).index(any());
+
+        // when
+        queue.stop();
+
+        // then
+        verify(indexer).index(List.of(1L, 2L));
+        assertThat(queue.backlog()).isZero();
+        assertThat(queue.isRunning()).isFalse();
+    }
+
+    @Test
+    void shouldRetryFailedBatch() {
+        // given
+        properties.setBatchDelay(Duration.ofMillis(10));
+        doThrow(new IllegalStateException("index is locked")).doNothing().when(indexer).index(any());
+        NewsIndexingQueue queue = new NewsIndexingQueue(indexer, properties);
+        queue.start();
+
+        // when
+        queue.enqueue(List.of(1L));
+
+        // then
+        verify(indexer, timeout(5000).times(2)).index(List.of(1L));
+        queue.stop();
+    }
+
+    @Test
+    void shouldIndexNewsQueuedDuringStopOnCallingThread() {
+        // given
+        properties.setBatchDelay(Duration.ofMinutes(1));
+        NewsIndexingQueue queue = new NewsIndexingQueue(indexer, properties);
+        List<Collection<Long>> indexed = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            if (ids.contains(1L)) {
+                queue.enqueue(List.of(2L));
+            }
+            indexed.add(ids);
+            return null;
+        }).when(indexer).index(any());
+        queue.start();
+        queue.enqueue(List.of(1L));
+
+        // when
+        queue.stop();
+
+        // then
+        assertThat(indexed).containsExactly(List.of(2L), List.of(1L));
+        assertThat(queue.backlog()).isZero();
+    }
+
+    @Test
+    void shouldIndexRightAwayWhenNotRunning() {
+        // given
+        doNothing().when(indexer).index(any());
+        NewsIndexingQueue queue = new NewsIndexingQueue(indexer, properties);
+
+        // when
+        queue.enqueue(List.of(1L));
+
+        // then
+        verify(indexer).index(List.of(1L));
+        assertThat(queue.backlog()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Collection<Long>> batches() {
+        return ArgumentCaptor.forClass(Collection.class);
+    }
+}
@@ -0,0 +1,83 @@
+package ru.clevertec.news.search;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchAfterQueryTest {
+
+    private static final String ID_FIELD = "idSort";
+    private static final Sort SCORE_THEN_ID = new Sort(SortField.FIELD_SCORE, new SortField(ID_FIELD, SortField.Type.LONG));
+
+    @Test
+    void shouldPageThroughAllMatchesInScoreThenIdOrder() throws IOException {
+        //given
+        try (Directory directory = new ByteBuffersDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(new StandardAnalyzer()))) {
+                for (long id = 1; id <= 40; id++) {
+                    Document document = new Document();
+                    document.add(new TextField("text", "news ".repeat((int) (id % 4) + 1) + "other", Field.Store.NO));
+                    document.add(new NumericDocValuesField(ID_FIELD, id));
+                    document.add(new StoredField("id", id));
+                    writer.addDocument(document);
+                    if (id % 10 == 0) {
+                        writer.commit();
+                    }
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                Query match = new TermQuery(new Term("text", "news"));
+                List<Long> expected = ids(searcher, searcher.search(match, 100, SCORE_THEN_ID, true).scoreDocs);
+
+                //when
+                List<Long> paged = new ArrayList<>();
+                Query query = match;
+                ScoreDoc[] page;
+                do {
+                    page = searcher.search(query, 7, SCORE_THEN_ID, true).scoreDocs;
+                    paged.addAll(ids(searcher, page));
+                    if (page.length > 0) {
+                        FieldDoc last = (FieldDoc) page[page.length - 1];
+                        query = new SearchAfterQuery(match, ID_FIELD, last.score, (Long) last.fields[1]);
+                    }
+                } while (page.length == 7);
+
+                //then
+                assertThat(expected).hasSize(40);
+                assertThat(paged).containsExactlyElementsOf(expected);
+            }
+        }
+    }
+
+    private static List<Long> ids(IndexSearcher searcher, ScoreDoc[] hits) throws IOException {
+        List<Long> ids = new ArrayList<>();
+        for (ScoreDoc hit : hits) {
+            ids.add(searcher.doc(hit.doc).getField("id").numericValue().longValue());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,97 @@
+package ru.clevertec.news.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.news.cache.CacheMeters;
+import ru.clevertec.news.cache.InMemoryListingGenerations;
+import ru.clevertec.news.config.NewsCacheProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchResultCacheTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final NewsCacheProperties properties = new NewsCacheProperties();
+    private final AtomicInteger searches = new AtomicInteger();
+
+    @Test
+    void shouldServeSameSearchFromCache() {
+        // given
+        SearchResultCache cache = new SearchResultCache(new InMemoryListingGenerations(), properties, meterRegistry);
+
+        // when
+        String first = cache.get("Breaking  news", "offset:0:10", this::search);
+        String second = cache.get(" breaking NEWS ", "offset:0:10", this::search);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(searches).hasValue(1);
+        assertThat(requests("hit")).isEqualTo(1);
+        assertThat(requests("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepPagesOfSearchApart() {
+        // given
+        SearchResultCache cache = new SearchResultCache(new InMemoryListingGenerations(), properties, meterRegistry);
+
+        // when
+        String first = cache.get("breaking", "offset:0:10", this::search);
+        String second = cache.get("breaking", "offset:10:10", this::search);
+
+        // then
+        assertThat(second).isNotEqualTo(first);
+        assertThat(searches).hasValue(2);
+    }
+
+    @Test
+    void shouldSearchAgainAfterInvalidation() {
+        // given
+        SearchResultCache cache = new SearchResultCache(new InMemoryListingGenerations(), properties, meterRegistry);
+        String before = cache.get("breaking", "offset:0:10", this::search);
+
+        // when
+        cache.invalidate();
+        String after = cache.get("breaking", "offset:0:10", this::search);
+
+        // then
+        assertThat(after).isNotEqualTo(before);
+        assertThat(cache.get("breaking", "offset:0:10", this::search)).isEqualTo(after);
+        assertThat(searches).hasValue(2);
+    }
+
+    @Test
+    void shouldKeepNoMorePagesThanCapacity() {
+        // given
+        properties.getSearch().setCapacity(2);
+        SearchResultCache cache = new SearchResultCache(new InMemoryListingGenerations(), properties, meterRegistry);
+
+        // when
+        cache.get("first", "offset:0:10", this::search);
+        cache.get("second", "offset:0:10", this::search);
+        cache.get("third", "offset:0:10", this::search);
+        cache.get("first", "offset:0:10", this::search);
+
+        // then
+        assertThat(searches).hasValue(4);
+        assertThat(meterRegistry.get(CacheMeters.SIZE).tag(CacheMeters.TAG_CACHE, SearchResultCache.CACHE_NAME)
+                .gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get(CacheMeters.EVICTIONS).tag(CacheMeters.TAG_CACHE, SearchResultCache.CACHE_NAME)
+                .tag("cause", "size").functionCounter().count()).isEqualTo(2);
+    }
+
+    private String search() {
+        return "page " + searches.incrementAndGet();
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get(CacheMeters.REQUESTS)
+                .tag(CacheMeters.TAG_CACHE, SearchResultCache.CACHE_NAME)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,86 @@
+package ru.clevertec.news.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.clevertec.news.config.PostgresSQLContainerInitializer;
+import ru.clevertec.news.entity.dto.NewsRequest;
+import ru.clevertec.news.entity.dto.NewsResponse;
+import ru.clevertec.news.util.BatchItemResult;
+import ru.clevertec.news.util.NewsRequestTestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the throughput of the batch creation with a loop of single creates, each committing on its own
+ * as the ingest feed did before. The throughputs are logged rather than asserted, since wall-clock timings
+ * depend on the load of the machine. Run with {@code ./gradlew benchmarkTest}.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NewsBatchCreateBenchmarkTest extends PostgresSQLContainerInitializer {
+
+    private static final int ITEMS = 1000;
+    private static final String TITLE_PREFIX = "Benchmark ";
+
+    @Autowired
+    private NewsService newsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void deleteCreatedNews() {
+        jdbcTemplate.update("DELETE FROM news WHERE title LIKE ?", TITLE_PREFIX + "%");
+        jdbcTemplate.update("UPDATE news_counter c "
+                + "SET row_count = (SELECT count(*) FROM news n WHERE n.is_archive = c.is_archive)");
+    }
+
+    @Test
+    void shouldCreateWholeBatchAndReportThroughputAgainstLoopOfSingleCreates() {
+        //given
+        List<NewsRequest> newsRequests = newsRequests();
+        newsService.createAll(newsRequests.subList(0, 50));
+        newsService.create(newsRequests.get(0));
+
+        //when
+        long loopStart = System.nanoTime();
+        for (NewsRequest newsRequest : newsRequests) {
+            newsService.create(newsRequest);
+        }
+        long loopNanos = System.nanoTime() - loopStart;
+
+        long batchStart = System.nanoTime();
+        List<BatchItemResult<NewsResponse>> results = newsService.createAll(newsRequests);
+        long batchNanos = System.nanoTime() - batchStart;
+
+        //then
+        log.info("Creating {} news: single creates {} news/s, batch {} news/s",
+                ITEMS, throughput(loopNanos), throughput(batchNanos));
+        assertThat(results).hasSize(ITEMS).allMatch(result -> result.status() == BatchItemResult.Status.CREATED);
+    }
+
+    private static List<NewsRequest> newsRequests() {
+        List<NewsRequest> newsRequests = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            newsRequests.add(NewsRequestTestBuilder.aNewsRequest().withTitle(TITLE_PREFIX + i).build());
+        }
+        return newsRequests;
+    }
+
+    private static long throughput(long nanos) {
+        return ITEMS * TimeUnit.SECONDS.toNanos(1) / Math.max(1, nanos);
+    }
+}
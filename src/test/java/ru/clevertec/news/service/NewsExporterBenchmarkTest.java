@@ -0,0 +1,101 @@
+package ru.clevertec.news.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import ru.clevertec.news.config.PostgresSQLContainerInitializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the export streams a million news without the heap growing with them.
+ * Run with {@code ./gradlew benchmarkTest}.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class NewsExporterBenchmarkTest extends PostgresSQLContainerInitializer {
+
+    private static final int GENERATED_NEWS = 1_000_000;
+    private static final long FIRST_GENERATED_ID = 2_000_000_000L;
+    private static final int SAMPLE_EVERY = 200_000;
+    private static final long MAX_RETAINED_HEAP = 32L * 1024 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NewsExporter exporter;
+
+    @Autowired
+    public NewsExporterBenchmarkTest(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.exporter = new NewsExporter(jdbcTemplate, transactionManager, new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+    }
+
+    @Test
+    void shouldKeepHeapFlatWhileExportingMillionNews() throws IOException {
+        //given
+        jdbcTemplate.update("INSERT INTO news (id, title, time, text, is_archive, user_id) "
+                + "SELECT ? + g, 'News ' || g, timestamp '2024-01-01' + g * interval '1 second', "
+                + "repeat('Text of news ', 8) || g, false, 1 FROM generate_series(1, ?) g",
+                FIRST_GENERATED_ID, GENERATED_NEWS);
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream();
+
+        //when
+        long exported = exporter.export(NewsExporter.Scope.LIVE, null, null, out);
+
+        //then
+        assertThat(exported).isEqualTo(GENERATED_NEWS + 2);
+        assertThat(out.lines).isEqualTo(GENERATED_NEWS + 2);
+        assertThat(out.bytes).isGreaterThan(100L * GENERATED_NEWS);
+        assertThat(out.samples).isEqualTo(GENERATED_NEWS / SAMPLE_EVERY);
+        assertThat(out.maxRetained).isLessThan(MAX_RETAINED_HEAP);
+    }
+
+    /**
+     * Discards the export, measuring the heap still reachable after a collection every {@link #SAMPLE_EVERY} lines.
+     */
+    private static final class HeapSamplingOutputStream extends OutputStream {
+
+        private final Runtime runtime = Runtime.getRuntime();
+        private final long baseline;
+        private long bytes;
+        private long lines;
+        private int samples;
+        private long maxRetained;
+
+        private HeapSamplingOutputStream() {
+            baseline = retainedHeap();
+        }
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n' && ++lines % SAMPLE_EVERY == 0) {
+                samples++;
+                maxRetained = Math.max(maxRetained, retainedHeap() - baseline);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+
+        private long retainedHeap() {
+            System.gc();
+            return runtime.totalMemory() - runtime.freeMemory();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package ru.clevertec.news.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import ru.clevertec.news.config.PostgresSQLContainerInitializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class NewsExporterTest extends PostgresSQLContainerInitializer {
+
+    private final NewsExporter exporter;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Autowired
+    public NewsExporterTest(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.exporter = new NewsExporter(jdbcTemplate, transactionManager, objectMapper);
+    }
+
+    @Test
+    void shouldExportLiveNewsOneJsonObjectPerLine() throws IOException {
+        //given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        long exported = exporter.export(NewsExporter.Scope.LIVE, null, null, out);
+
+        //then
+        List<JsonNode> lines = lines(out);
+        assertThat(exported).isEqualTo(2);
+        assertThat(lines).extracting(line -> line.get("id").asLong()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(lines.get(0).get("user").get("uuid").asText()).isEqualTo("0bdc4d34-af90-4b42-bba6-f588323c87d7");
+        assertThat(lines.get(0).get("time").asText()).isEqualTo("2024-01-01T14:18:08.537");
+    }
+
+    @Test
+    void shouldExportNewsOfBothStatesInTimeRange() throws IOException {
+        //given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        long inRange = exporter.export(NewsExporter.Scope.ALL,
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 2, 0, 0), out);
+        long afterRange = exporter.export(NewsExporter.Scope.ARCHIVED,
+                LocalDateTime.of(2024, 1, 2, 0, 0), null, OutputStream.nullOutputStream());
+
+        //then
+        assertThat(inRange).isEqualTo(4);
+        assertThat(lines(out)).extracting(line -> line.get("id").asLong()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(afterRange).isZero();
+    }
+
+    private List<JsonNode> lines(ByteArrayOutputStream out) throws IOException {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+}
@@ -1,5 +1,8 @@
 package ru.clevertec.news.service;
 
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -7,29 +10,52 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import ru.clevertec.exceptionhandlerstarter.exception.EntityNotFoundException;
+import ru.clevertec.news.cache.NewsExistenceIndex;
+import ru.clevertec.news.config.NewsListingProperties.CountMode;
 import ru.clevertec.news.entity.News;
 import ru.clevertec.news.entity.User;
 import ru.clevertec.news.entity.dto.NewsRequest;
 import ru.clevertec.news.entity.dto.NewsResponse;
+import ru.clevertec.news.entity.dto.UserRequest;
+import ru.clevertec.news.event.NewsArchivedBatchEvent;
+import ru.clevertec.news.event.NewsChangedEvent;
 import ru.clevertec.news.mapper.NewsMapper;
 import ru.clevertec.news.repository.NewsRepository;
+import ru.clevertec.news.util.BatchItemResult;
+import ru.clevertec.news.util.CursorPage;
+import ru.clevertec.news.util.NewsCursor;
 import ru.clevertec.news.util.NewsRequestTestBuilder;
 import ru.clevertec.news.util.NewsResponseTestBuilder;
 import ru.clevertec.news.util.NewsTestBuilder;
 import ru.clevertec.news.util.PaginationResponse;
 import ru.clevertec.news.util.UserTestBuilder;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -46,6 +72,21 @@ class NewsServiceImplTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private NewsExistenceIndex existenceIndex;
+
+    @Mock
+    private NewsCounts newsCounts;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private NewsServiceImpl newsService;
 
@@ -100,6 +141,19 @@ class NewsServiceImplTest {
         verifyNoInteractions(newsMapper);
     }
 
+    @Test
+    void testGetShouldThrowEntityNotFoundExceptionWithoutDatabaseCallWhenIndexRulesIdOut() {
+        // given
+        Long id = 100L;
+        when(existenceIndex.rulesOut(id, false)).thenReturn(true);
+
+        // when, then
+        assertThatThrownBy(() -> newsService.get(id))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("News with 100 not found");
+        verifyNoInteractions(newsRepository, newsMapper);
+    }
+
     @Test
     void testGetFromArchiveShouldGetNewsFromArchiveByIdWhenNewsExistsAndIsArchived() {
         // given
@@ -133,6 +187,19 @@ class NewsServiceImplTest {
         verifyNoInteractions(newsMapper);
     }
 
+    @Test
+    void testGetFromArchiveShouldThrowEntityNotFoundExceptionWithoutDatabaseCallWhenIndexRulesIdOut() {
+        // given
+        Long id = 1L;
+        when(existenceIndex.rulesOut(id, true)).thenReturn(true);
+
+        // when, then
+        assertThatThrownBy(() -> newsService.getFromArchive(id))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("News with 1 not found");
+        verifyNoInteractions(newsRepository, newsMapper);
+    }
+
     @Test
     void testGetFromArchiveWithIsNotArchiveEntityShouldThrowsNotFoundException() {
         //given
@@ -154,13 +221,12 @@ class NewsServiceImplTest {
         int pageSize = 10;
         int numberPage = 1;
         PageRequest pageRequest = PageRequest.of(numberPage - 1, pageSize);
-        List<News> newsList = Arrays.asList(NewsTestBuilder.aNews().build(), NewsTestBuilder.aNews().withId(2L).build());
         List<NewsResponse> newsResponseList = Arrays.asList(NewsResponseTestBuilder.aNewsResponse().build(),
-                NewsResponseTestBuilder.aNewsResponse().build());
-        Page<News> pageNews = new PageImpl<>(newsList);
+                NewsResponseTestBuilder.aNewsResponse().withId(2L).build());
+        Page<NewsResponse> pageNews = new PageImpl<>(newsResponseList);
 
-        when(newsRepository.findAllByIsArchivedIsFalse(pageRequest)).thenReturn(pageNews);
-        when(newsMapper.toViewModelList(pageNews.getContent())).thenReturn(newsResponseList);
+        when(newsCounts.mode()).thenReturn(CountMode.EXACT);
+        when(newsRepository.findResponsePage(false, pageRequest)).thenReturn(pageNews);
 
         // when
         PaginationResponse<NewsResponse> result = newsService.getAll(pageSize, numberPage);
@@ -169,8 +235,8 @@ class NewsServiceImplTest {
         assertThat(result.getCountPage()).isEqualTo(1);
         assertThat(result.getPageNumber()).isEqualTo(1);
         assertThat(result.getContent()).isEqualTo(newsResponseList);
-        verify(newsRepository).findAllByIsArchivedIsFalse(pageRequest);
-        verify(newsMapper).toViewModelList(newsList);
+        verify(newsRepository).findResponsePage(false, pageRequest);
+        verifyNoInteractions(newsMapper);
     }
 
     @Test
@@ -179,12 +245,13 @@ class NewsServiceImplTest {
         int pageSize = 10;
         int numberPage = 1;
         PageRequest pageRequest = PageRequest.of(numberPage - 1, pageSize);
-        Page<News> newsPage = Page.empty(pageRequest);
+        Page<NewsResponse> newsPage = Page.empty(pageRequest);
         PaginationResponse<NewsResponse> paginationResponse = new PaginationResponse<>();
         paginationResponse.setCountPage(0);
         paginationResponse.setPageNumber(1);
         paginationResponse.setContent(List.of());
-        when(newsRepository.findAllByIsArchivedIsFalse(pageRequest)).thenReturn(newsPage);
+        when(newsCounts.mode()).thenReturn(CountMode.EXACT);
+        when(newsRepository.findResponsePage(false, pageRequest)).thenReturn(newsPage);
 
         // when
         PaginationResponse<NewsResponse> result = newsService.getAll(pageSize, numberPage);
@@ -199,14 +266,12 @@ class NewsServiceImplTest {
         int pageSize = 10;
         int numberPage = 1;
         PageRequest pageRequest = PageRequest.of(numberPage - 1, pageSize);
-        List<News> newsList = Arrays.asList(NewsTestBuilder.aNews().withArchived(true).build(),
-                NewsTestBuilder.aNews().withArchived(true).withId(2L).build());
-        List<NewsResponse> newsResponseList = Arrays.asList(NewsResponseTestBuilder.aNewsResponse().build(),
-                NewsResponseTestBuilder.aNewsResponse().build());
-        Page<News> pageNews = new PageImpl<>(newsList);
+        List<NewsResponse> newsResponseList = Arrays.asList(NewsResponseTestBuilder.aNewsResponse().withId(3L).build(),
+                NewsResponseTestBuilder.aNewsResponse().withId(4L).build());
+        Page<NewsResponse> pageNews = new PageImpl<>(newsResponseList);
 
-        when(newsRepository.findAllByIsArchivedIsTrue(pageRequest)).thenReturn(pageNews);
-        when(newsMapper.toViewModelList(pageNews.getContent())).thenReturn(newsResponseList);
+        when(newsCounts.mode()).thenReturn(CountMode.EXACT);
+        when(newsRepository.findResponsePage(true, pageRequest)).thenReturn(pageNews);
 
         // when
         PaginationResponse<NewsResponse> result = newsService.getAllFromArchive(pageSize, numberPage);
@@ -215,8 +280,8 @@ class NewsServiceImplTest {
         assertThat(result.getCountPage()).isEqualTo(1);
         assertThat(result.getPageNumber()).isEqualTo(1);
         assertThat(result.getContent()).isEqualTo(newsResponseList);
-        verify(newsRepository).findAllByIsArchivedIsTrue(pageRequest);
-        verify(newsMapper).toViewModelList(newsList);
+        verify(newsRepository).findResponsePage(true, pageRequest);
+        verifyNoInteractions(newsMapper);
     }
 
     @Test
@@ -225,12 +290,13 @@ class NewsServiceImplTest {
         int pageSize = 10;
         int numberPage = 1;
         PageRequest pageRequest = PageRequest.of(numberPage - 1, pageSize);
-        Page<News> commentPage = Page.empty(pageRequest);
+        Page<NewsResponse> commentPage = Page.empty(pageRequest);
         PaginationResponse<NewsResponse> paginationResponse = new PaginationResponse<>();
         paginationResponse.setCountPage(0);
         paginationResponse.setPageNumber(1);
         paginationResponse.setContent(List.of());
-        when(newsRepository.findAllByIsArchivedIsTrue(pageRequest)).thenReturn(commentPage);
+        when(newsCounts.mode()).thenReturn(CountMode.EXACT);
+        when(newsRepository.findResponsePage(true, pageRequest)).thenReturn(commentPage);
 
         // when
         PaginationResponse<NewsResponse> result = newsService.getAllFromArchive(pageSize, numberPage);
@@ -238,16 +304,108 @@ class NewsServiceImplTest {
         assertThat(result).isEqualTo(paginationResponse);
     }
 
+    @Test
+    void testGetAllShouldTakeCountPageFromCounterWithoutCountQuery() {
+        // given
+        int pageSize = 10;
+        int numberPage = 2;
+        PageRequest pageRequest = PageRequest.of(numberPage - 1, pageSize);
+        List<NewsResponse> newsResponseList = List.of(NewsResponseTestBuilder.aNewsResponse().build());
+        when(newsCounts.mode()).thenReturn(CountMode.COUNTER);
+        when(newsCounts.count(false)).thenReturn(35L);
+        when(newsRepository.findResponseSlice(false, pageRequest))
+                .thenReturn(new SliceImpl<>(newsResponseList, pageRequest, true));
+
+        // when
+        PaginationResponse<NewsResponse> result = newsService.getAll(pageSize, numberPage);
+
+        // then
+        assertThat(result.getCountPage()).isEqualTo(4);
+        assertThat(result.getHasNext()).isNull();
+        assertThat(result.getContent()).isEqualTo(newsResponseList);
+        verify(newsRepository, never()).findResponsePage(false, pageRequest);
+    }
+
+    @Test
+    void testGetAllFromArchiveShouldRaiseEstimatedCountPageToPagesKnownToExist() {
+        // given
+        int pageSize = 10;
+        int numberPage = 3;
+        PageRequest pageRequest = PageRequest.of(numberPage - 1, pageSize);
+        List<NewsResponse> newsResponseList = List.of(NewsResponseTestBuilder.aNewsResponse().build());
+        when(newsCounts.mode()).thenReturn(CountMode.ESTIMATE);
+        when(newsCounts.count(true)).thenReturn(12L);
+        when(newsRepository.findResponseSlice(true, pageRequest))
+                .thenReturn(new SliceImpl<>(newsResponseList, pageRequest, true));
+
+        // when
+        PaginationResponse<NewsResponse> result = newsService.getAllFromArchive(pageSize, numberPage);
+
+        // then
+        assertThat(result.getCountPage()).isEqualTo(4);
+    }
 
     @Test
-    void shouldCreateNewUserAndCommentWhenUserDoesNotExist() {
+    void testGetAllShouldReportNextPageInsteadOfCountPageWhenCountIsDisabled() {
+        // given
+        int pageSize = 10;
+        int numberPage = 1;
+        PageRequest pageRequest = PageRequest.of(numberPage - 1, pageSize);
+        List<NewsResponse> newsResponseList = List.of(NewsResponseTestBuilder.aNewsResponse().build());
+        when(newsCounts.mode()).thenReturn(CountMode.NONE);
+        when(newsRepository.findResponseSlice(false, pageRequest))
+                .thenReturn(new SliceImpl<>(newsResponseList, pageRequest, false));
+
+        // when
+        PaginationResponse<NewsResponse> result = newsService.getAll(pageSize, numberPage);
+
+        // then
+        assertThat(result.getCountPage()).isEqualTo(-1);
+        assertThat(result.getHasNext()).isFalse();
+        verify(newsCounts, never()).count(false);
+    }
+
+    @Test
+    void testGetAllByCursorShouldReturnCursorOfLastNewsWhenMoreNewsFollow() {
+        // given
+        LocalDateTime time = LocalDateTime.parse("2024-01-01T14:18:08.537000");
+        NewsResponse newest = NewsResponseTestBuilder.aNewsResponse().withId(2L).withTime(time).build();
+        NewsResponse next = NewsResponseTestBuilder.aNewsResponse().withId(1L).withTime(time).build();
+        when(newsRepository.findFirstByCursor(false, PageRequest.of(0, 2))).thenReturn(List.of(newest, next));
+
+        // when
+        CursorPage<NewsResponse> result = newsService.getAllByCursor(null, 1);
+
+        // then
+        assertThat(result.content()).containsExactly(newest);
+        assertThat(NewsCursor.decode(result.nextCursor())).isEqualTo(new NewsCursor(time, 2L));
+    }
+
+    @Test
+    void testGetAllFromArchiveByCursorShouldSeekAfterCursorAndReturnNoCursorOnLastPage() {
+        // given
+        LocalDateTime time = LocalDateTime.parse("2024-01-01T14:18:08.537000");
+        NewsResponse last = NewsResponseTestBuilder.aNewsResponse().withId(3L).withTime(time).build();
+        String cursor = new NewsCursor(time, 4L).encode();
+        when(newsRepository.findNextByCursor(true, time, 4L, PageRequest.of(0, 6))).thenReturn(List.of(last));
+
+        // when
+        CursorPage<NewsResponse> result = newsService.getAllFromArchiveByCursor(cursor, 5);
+
+        // then
+        assertThat(result.content()).containsExactly(last);
+        assertThat(result.nextCursor()).isNull();
+        verify(newsRepository, never()).findFirstByCursor(true, PageRequest.of(0, 6));
+    }
+
+    @Test
+    void shouldCreateNewsWithAuthorResolvedInOneCall() {
         // given
         News news = NewsTestBuilder.aNews().build();
         NewsRequest newsRequest = NewsRequestTestBuilder.aNewsRequest().build();
         NewsResponse newsResponse = NewsResponseTestBuilder.aNewsResponse().build();
         User user = UserTestBuilder.aUser().build();
-        when(userService.getByUuiD(newsRequest.user().uuid())).thenReturn(Optional.empty());
-        when(userService.create(newsRequest.user())).thenReturn(user);
+        when(userService.getOrCreate(newsRequest.user())).thenReturn(user);
         when(newsMapper.toEntity(newsRequest)).thenReturn(news);
         when(newsMapper.toViewModel(news)).thenReturn(newsResponse);
         when(newsRepository.save(news)).thenReturn(news);
@@ -257,29 +415,54 @@ class NewsServiceImplTest {
 
         // then
         assertThat(result).isNotNull();
-        verify(userService).create(newsRequest.user());
+        assertThat(news.getUser()).isEqualTo(user);
+        verify(userService, never()).getByUuiD(newsRequest.user().uuid());
+        verify(userService, never()).create(newsRequest.user());
         verify(newsRepository).save(news);
+        verify(newsCounts).created();
+        verify(eventPublisher).publishEvent(NewsChangedEvent.created(newsResponse));
     }
 
     @Test
-    void shouldLinkExistingUserAndCommentWhenUserExists() {
+    void testCreateAllShouldCreateValidItemsAndRejectInvalidOnesInRequestOrder() {
         // given
-        NewsRequest newsRequest = NewsRequestTestBuilder.aNewsRequest().build();
-        NewsResponse newsResponse = NewsResponseTestBuilder.aNewsResponse().build();
-        User existingUser = UserTestBuilder.aUser().build();
-        News news = NewsTestBuilder.aNews().build();
-        when(userService.getByUuiD(newsRequest.user().uuid())).thenReturn(Optional.of(existingUser));
-        when(newsRepository.save(news)).thenReturn(news);
-        when(newsMapper.toEntity(newsRequest)).thenReturn(news);
+        NewsRequest valid = NewsRequestTestBuilder.aNewsRequest().build();
+        NewsRequest invalid = NewsRequestTestBuilder.aNewsRequest().withTitle("").build();
+        News news = NewsTestBuilder.aNews().withId(5L).build();
+        NewsResponse newsResponse = NewsResponseTestBuilder.aNewsResponse().withId(5L).build();
+        User user = UserTestBuilder.aUser().build();
+        ConstraintViolation<NewsRequest> violation = violation("title", "must not be blank");
+        when(validator.validate(invalid)).thenReturn(Set.of(violation));
+        when(userService.getOrCreateAll(List.of(valid.user()))).thenReturn(Map.of(valid.user().uuid(), user));
+        when(newsMapper.toEntity(valid)).thenReturn(news);
+        when(newsRepository.saveAll(List.of(news))).thenReturn(List.of(news));
         when(newsMapper.toViewModel(news)).thenReturn(newsResponse);
 
         // when
-        NewsResponse result = newsService.create(newsRequest);
+        List<BatchItemResult<NewsResponse>> result = newsService.createAll(List.of(invalid, valid));
 
         // then
-        assertThat(result).isNotNull();
-        verify(userService, never()).create(newsRequest.user());
-        verify(newsRepository).save(news);
+        assertThat(result).containsExactly(
+                BatchItemResult.rejected(0, "title must not be blank"),
+                BatchItemResult.created(1, newsResponse));
+        assertThat(news.getUser()).isEqualTo(user);
+        verify(newsCounts).created(1);
+        verify(eventPublisher).publishEvent(NewsChangedEvent.created(newsResponse));
+    }
+
+    @Test
+    void testCreateAllShouldRejectItemWhoseAuthorIsInvalid() {
+        // given
+        NewsRequest newsRequest = NewsRequestTestBuilder.aNewsRequest().build();
+        ConstraintViolation<UserRequest> violation = violation("uuid", "must not be null");
+        when(validator.validate(newsRequest.user())).thenReturn(Set.of(violation));
+
+        // when
+        List<BatchItemResult<NewsResponse>> result = newsService.createAll(List.of(newsRequest));
+
+        // then
+        assertThat(result).containsExactly(BatchItemResult.rejected(0, "user.uuid must not be null"));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -303,6 +486,7 @@ class NewsServiceImplTest {
         verify(newsRepository).save(updatedNews);
         verify(newsMapper).merge(updatedNews, newsRequest);
         verify(newsMapper).toViewModel(updatedNews);
+        verify(eventPublisher).publishEvent(NewsChangedEvent.updated(newsResponse));
     }
 
     @Test
@@ -340,6 +524,7 @@ class NewsServiceImplTest {
     void testArchiveShouldUpdatedEntity() {
         // given
         Long id = 1L;
+        runTransactionsInline();
         when(newsRepository.findById(id)).thenReturn(Optional.empty());
 
         // when, then
@@ -347,6 +532,7 @@ class NewsServiceImplTest {
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessage("News with 1 not found");
         verify(newsRepository).findById(id);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -355,6 +541,7 @@ class NewsServiceImplTest {
         Long id = 1L;
         News news = NewsTestBuilder.aNews().build();
         News expected = NewsTestBuilder.aNews().withArchived(true).build();
+        runTransactionsInline();
         when(newsRepository.findById(id)).thenReturn(Optional.of(news));
 
         // when
@@ -365,5 +552,144 @@ class NewsServiceImplTest {
         verify(newsRepository).save(newsTestCaptor.capture());
         News actual = newsTestCaptor.getValue();
         assertThat(actual).isEqualTo(expected);
+        verify(eventPublisher).publishEvent(NewsChangedEvent.archived(id));
+        verify(newsCounts).archived();
+    }
+
+    @Test
+    void testArchiveShouldNotMoveCounterWhenNewsIsAlreadyArchived() {
+        // given
+        Long id = 3L;
+        News news = NewsTestBuilder.aNews().withId(id).withArchived(true).build();
+        runTransactionsInline();
+        when(newsRepository.findById(id)).thenReturn(Optional.of(news));
+
+        // when
+        newsService.archive(id);
+
+        // then
+        verify(newsRepository).save(news);
+        verifyNoInteractions(newsCounts);
+    }
+
+    @Test
+    void testArchiveShouldRunTransactionAgainWhenRowWasMovedConcurrently() {
+        // given
+        Long id = 1L;
+        News news = NewsTestBuilder.aNews().withArchived(true).build();
+        runTransactionsInline();
+        when(newsRepository.findById(id)).thenReturn(Optional.of(news));
+        when(newsRepository.save(news))
+                .thenThrow(new CannotAcquireLockException("tuple to be locked was already moved to another partition"))
+                .thenReturn(news);
+
+        // when
+        newsService.archive(id);
+
+        // then
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(newsRepository, times(2)).save(news);
+    }
+
+    @Test
+    void testArchiveAllShouldRunChunkAgainWhenRowWasMovedConcurrently() {
+        // given
+        runTransactionsInline();
+        when(newsRepository.archiveAllById(List.of(1L, 2L)))
+                .thenThrow(new CannotAcquireLockException("tuple to be locked was already moved to another partition"))
+                .thenReturn(List.of(2L));
+
+        // when
+        List<Long> actual = newsService.archiveAll(List.of(1L, 2L));
+
+        // then
+        assertThat(actual).containsExactly(2L);
+        verify(newsCounts).archived(1);
+        verify(eventPublisher).publishEvent(new NewsArchivedBatchEvent(List.of(2L)));
+    }
+
+    @Test
+    void testArchiveAllShouldArchiveDistinctIdsInChunksEachInItsOwnTransaction() {
+        // given
+        List<Long> ids = LongStream.rangeClosed(1, 1500).boxed().toList();
+        List<Long> request = new ArrayList<>(ids);
+        request.add(1L);
+        List<Long> firstChunk = ids.subList(0, 1000);
+        List<Long> secondChunk = ids.subList(1000, 1500);
+        runTransactionsInline();
+        when(newsRepository.archiveAllById(firstChunk)).thenReturn(firstChunk);
+        when(newsRepository.archiveAllById(secondChunk)).thenReturn(List.of(1001L, 1002L));
+
+        // when
+        List<Long> actual = newsService.archiveAll(request);
+
+        // then
+        assertThat(actual).hasSize(1002).endsWith(1001L, 1002L);
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(newsCounts).archived(1000);
+        verify(newsCounts).archived(2);
+        verify(eventPublisher).publishEvent(new NewsArchivedBatchEvent(firstChunk));
+        verify(eventPublisher).publishEvent(new NewsArchivedBatchEvent(List.of(1001L, 1002L)));
+    }
+
+    @Test
+    void testArchiveAllShouldNotCountNorAnnounceChunkWithoutArchivedNews() {
+        // given
+        runTransactionsInline();
+        when(newsRepository.archiveAllById(List.of(3L, 4L))).thenReturn(List.of());
+
+        // when
+        List<Long> actual = newsService.archiveAll(List.of(3L, 4L));
+
+        // then
+        assertThat(actual).isEmpty();
+        verifyNoInteractions(newsCounts, eventPublisher);
+    }
+
+    @Test
+    void testArchiveBetweenShouldArchiveChunksUntilOneIsIncomplete() {
+        // given
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 2, 1, 0, 0);
+        List<Long> fullChunk = LongStream.rangeClosed(1, 1000).boxed().toList();
+        runTransactionsInline();
+        when(newsRepository.archiveChunkBetween(from, to, 1000)).thenReturn(fullChunk, List.of(1001L));
+
+        // when
+        List<Long> actual = newsService.archiveBetween(from, to);
+
+        // then
+        assertThat(actual).hasSize(1001).endsWith(1001L);
+        verify(newsRepository, times(2)).archiveChunkBetween(from, to, 1000);
+        verify(newsCounts).archived(1000);
+        verify(newsCounts).archived(1);
+        verify(eventPublisher).publishEvent(new NewsArchivedBatchEvent(List.of(1001L)));
+    }
+
+    @Test
+    void testArchiveBetweenShouldRejectEmptyRange() {
+        // given
+        LocalDateTime time = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        // when, then
+        assertThatThrownBy(() -> newsService.archiveBetween(time, time))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(newsRepository, never()).archiveChunkBetween(any(), any(), anyInt());
+        verify(newsRepository, never()).archiveAllById(anyList());
+    }
+
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ConstraintViolation<T> violation(String property, String message) {
+        ConstraintViolation<T> violation = mock(ConstraintViolation.class);
+        Path path = mock(Path.class);
+        when(path.toString()).thenReturn(property);
+        when(violation.getPropertyPath()).thenReturn(path);
+        when(violation.getMessage()).thenReturn(message);
+        return violation;
     }
 }
@@ -1,10 +1,13 @@
 package ru.clevertec.news.service;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import ru.clevertec.news.entity.User;
 import ru.clevertec.news.entity.dto.UserRequest;
 import ru.clevertec.news.mapper.UserMapper;
@@ -12,11 +15,17 @@ import ru.clevertec.news.repository.UserRepository;
 import ru.clevertec.news.util.UserRequestBuilder;
 import ru.clevertec.news.util.UserTestBuilder;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,6 +41,12 @@ class UserServiceImplTest {
     @InjectMocks
     private UserServiceImpl userService;
 
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
 
     @Test
     void shouldCreateUserSuccessfully() {
@@ -76,4 +91,80 @@ class UserServiceImplTest {
         // then
         assertThat(result).isEmpty();
     }
+
+    @Test
+    void shouldResolveKnownUsersWithOneQueryAndCreateMissingOnesOnce() {
+        // given
+        User known = UserTestBuilder.aUser().build();
+        UserRequest knownRequest = UserRequestBuilder.aUserRequest().build();
+        UserRequest missingRequest = UserRequestBuilder.aUserRequest().withUuid(UUID.randomUUID()).build();
+        User missing = UserTestBuilder.aUser().withId(2L).withUuid(missingRequest.uuid()).build();
+        when(userRepository.findAllByUuidIn(Set.of(knownRequest.uuid(), missingRequest.uuid())))
+                .thenReturn(List.of(known));
+        when(userRepository.upsertAll(new UUID[]{missingRequest.uuid()}, new String[]{missingRequest.userName()}))
+                .thenReturn(List.of(missing));
+
+        // when
+        Map<UUID, User> result = userService.getOrCreateAll(List.of(knownRequest, missingRequest, missingRequest));
+
+        // then
+        assertThat(result).containsOnly(
+                Map.entry(known.getUuid(), known),
+                Map.entry(missing.getUuid(), missing));
+        verify(userRepository, times(1)).upsertAll(any(), any());
+        verify(userRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void shouldUpsertUnknownAuthorOnceAndServeItWithoutQueryAfterwards() {
+        // given
+        UserRequest userRequest = UserRequestBuilder.aUserRequest().build();
+        User user = UserTestBuilder.aUser().build();
+        when(userRepository.upsert(userRequest.uuid(), userRequest.userName())).thenReturn(user);
+
+        // when
+        User first = userService.getOrCreate(userRequest);
+        User second = userService.getOrCreate(userRequest);
+
+        // then
+        assertThat(first).isEqualTo(user);
+        assertThat(second).isEqualTo(user).isNotSameAs(user);
+        verify(userRepository, times(1)).upsert(userRequest.uuid(), userRequest.userName());
+    }
+
+    @Test
+    void shouldRememberAuthorOnlyAfterTransactionCommits() {
+        // given
+        UserRequest userRequest = UserRequestBuilder.aUserRequest().build();
+        User user = UserTestBuilder.aUser().build();
+        when(userRepository.upsert(userRequest.uuid(), userRequest.userName())).thenReturn(user);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        userService.getOrCreate(userRequest);
+        userService.getOrCreate(userRequest);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        userService.getOrCreate(userRequest);
+
+        // then
+        verify(userRepository, times(2)).upsert(userRequest.uuid(), userRequest.userName());
+    }
+
+    @Test
+    void shouldResolveRememberedUsersOfBatchWithoutQuery() {
+        // given
+        UserRequest userRequest = UserRequestBuilder.aUserRequest().build();
+        User user = UserTestBuilder.aUser().build();
+        when(userRepository.upsert(userRequest.uuid(), userRequest.userName())).thenReturn(user);
+        userService.getOrCreate(userRequest);
+
+        // when
+        Map<UUID, User> result = userService.getOrCreateAll(List.of(userRequest));
+
+        // then
+        assertThat(result).containsOnly(Map.entry(user.getUuid(), user));
+        verify(userRepository, never()).findAllByUuidIn(any());
+        verify(userRepository, never()).upsertAll(any(), any());
+    }
 }
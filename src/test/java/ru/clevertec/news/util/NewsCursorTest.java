@@ -0,0 +1,34 @@
+package ru.clevertec.news.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NewsCursorTest {
+
+    @Test
+    void shouldDecodeEncodedCursor() {
+        // given
+        NewsCursor cursor = new NewsCursor(LocalDateTime.parse("2024-01-01T14:18:08.537000"), 42L);
+
+        // when
+        String token = cursor.encode();
+        NewsCursor actual = NewsCursor.decode(token);
+
+        // then
+        assertThat(actual).isEqualTo(cursor);
+        assertThat(token).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        // when, then
+        assertThatThrownBy(() -> NewsCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> NewsCursor.decode("@@@"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
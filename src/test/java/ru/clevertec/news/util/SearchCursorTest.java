@@ -0,0 +1,39 @@
+package ru.clevertec.news.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchCursorTest {
+
+    @Test
+    void shouldDecodeEncodedCursor() {
+        // given
+        SearchCursor cursor = new SearchCursor(2.7182817f, 42L);
+
+        // when
+        String token = cursor.encode();
+        SearchCursor actual = SearchCursor.decode(token);
+
+        // then
+        assertThat(actual).isEqualTo(cursor);
+        assertThat(token).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        // given
+        String newsCursor = new NewsCursor(LocalDateTime.parse("2024-01-01T14:18:08.537"), 1L).encode();
+
+        // when, then
+        assertThatThrownBy(() -> SearchCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SearchCursor.decode("@@@"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SearchCursor.decode(newsCursor))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}